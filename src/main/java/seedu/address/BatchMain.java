@@ -0,0 +1,135 @@
+package seedu.address;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.BatchRunner;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * The entry point for running a script of commands without the GUI.
+ *
+ * The address book, preferences and config are the ones the app uses, and the script is run by a {@link BatchRunner}.
+ * Unlike the app, a missing data file gives an empty address book rather than the sample one, and a data file that
+ * cannot be read stops the run instead of being replaced. Failed commands are listed on the standard error, and a
+ * summary with the number of commands run per second on the standard output.
+ *
+ * Exits with status 1 if any command failed, or 2 if the script could not be run at all.
+ */
+public class BatchMain {
+
+    public static final String USAGE = "Usage: BatchMain [--config CONFIG_FILE] [--checkpoint COMMANDS] [SCRIPT_FILE]\n"
+            + "Runs the commands in SCRIPT_FILE, or in the standard input if it is not given or is -, one per line.\n"
+            + "The address book is saved at the end, and after every COMMANDS commands if given.";
+
+    private static final String CONFIG_OPTION = "--config";
+    private static final String CHECKPOINT_OPTION = "--checkpoint";
+    private static final String STANDARD_INPUT = "-";
+
+    private Path configPath = Config.DEFAULT_CONFIG_FILE;
+    private int checkpointInterval = 0;
+    private String scriptFile = STANDARD_INPUT;
+
+    /**
+     * Runs the script given by {@code args}, then exits with the status described in the class comment.
+     */
+    public static void main(String[] args) {
+        BatchMain batchMain;
+        try {
+            batchMain = parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        try {
+            BatchRunner.Report report = batchMain.run();
+            report.getErrors().forEach(System.err::println);
+            System.out.println(report);
+            System.exit(report.getErrors().isEmpty() ? 0 : 1);
+        } catch (IOException | DataConversionException e) {
+            System.err.println("Could not run the script: " + e.getMessage());
+            System.exit(2);
+        }
+    }
+
+    /**
+     * Returns the settings given by the command-line arguments {@code args}.
+     *
+     * @throws IllegalArgumentException if {@code args} are not as described by {@link #USAGE}.
+     */
+    static BatchMain parse(String[] args) {
+        BatchMain batchMain = new BatchMain();
+        boolean hasScriptFile = false;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals(CONFIG_OPTION) && i + 1 < args.length) {
+                batchMain.configPath = Paths.get(args[++i]);
+            } else if (args[i].equals(CHECKPOINT_OPTION) && i + 1 < args.length) {
+                batchMain.checkpointInterval = parseCheckpointInterval(args[++i]);
+            } else if (!hasScriptFile && !args[i].startsWith("--")) {
+                batchMain.scriptFile = args[i];
+                hasScriptFile = true;
+            } else {
+                throw new IllegalArgumentException("Unexpected argument " + args[i]);
+            }
+        }
+        return batchMain;
+    }
+
+    private static int parseCheckpointInterval(String value) {
+        try {
+            int interval = Integer.parseInt(value);
+            if (interval > 0) {
+                return interval;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException("The checkpoint interval must be a positive number: " + value);
+    }
+
+    /**
+     * Loads the address book, runs the script on it and saves it.
+     *
+     * @throws DataConversionException if the data file cannot be read.
+     */
+    private BatchRunner.Report run() throws IOException, DataConversionException {
+        Config config = ConfigUtil.readConfig(configPath).orElseGet(Config::new);
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = userPrefsStorage.readUserPrefs().orElseGet(UserPrefs::new);
+        StorageManager storage = new StorageManager(MainApp.initAddressBookStorage(userPrefs, config),
+                userPrefsStorage);
+
+        Optional<ReadOnlyAddressBook> addressBook = storage.readAddressBook();
+        ModelManager model = new ModelManager(addressBook.orElseGet(AddressBook::new), userPrefs);
+        BatchRunner runner = new BatchRunner(model, storage, checkpointInterval);
+
+        if (scriptFile.equals(STANDARD_INPUT)) {
+            return runner.run(new BufferedReader(new InputStreamReader(System.in, UTF_8)));
+        }
+        try (BufferedReader script = Files.newBufferedReader(Paths.get(scriptFile), UTF_8)) {
+            return runner.run(script);
+        }
+    }
+}
@@ -11,6 +11,7 @@ import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.AtomicFileWriter;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
@@ -23,8 +24,11 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -56,22 +60,49 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs, config);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = config.getSaveDelayMillis() < 0
+                ? new LogicManager(model, storage)
+                : new LogicManager(model, storage, config.getSaveDelayMillis());
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the address book storage of the type chosen in {@code userPrefs}, which forces its saves to the disk and
+     * keeps backups as set in {@code config}. The json file storage is used if the type is not known.
+     */
+    static AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs, Config config) {
+        AtomicFileWriter fileWriter = new AtomicFileWriter(config.getSyncPolicy(), config.getBackupCount());
+        switch (userPrefs.getAddressBookStorageType()) {
+        case BinaryAddressBookStorage.STORAGE_TYPE:
+            return new BinaryAddressBookStorage(userPrefs.getAddressBookFilePath(), fileWriter);
+        case JournalAddressBookStorage.STORAGE_TYPE:
+            return new JournalAddressBookStorage(userPrefs.getAddressBookFilePath(), fileWriter);
+        case JsonAddressBookStorage.STORAGE_TYPE:
+            return new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(), false, fileWriter);
+        case JsonAddressBookStorage.COMPACT_STORAGE_TYPE:
+            return new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(), true, fileWriter);
+        case ShardedAddressBookStorage.STORAGE_TYPE:
+            return new ShardedAddressBookStorage(userPrefs.getAddressBookFilePath(), fileWriter);
+        default:
+            logger.warning("Unknown address book storage type " + userPrefs.getAddressBookStorageType()
+                    + ". Using the json file storage");
+            return new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(), false, fileWriter);
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * or an empty address book will be used instead if errors occur when reading both {@code storage}'s address book
+     * and its backups.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
@@ -83,7 +114,8 @@ public class MainApp extends Application {
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
+            logger.warning("Data file and its backups not in the correct format. "
+                    + "Will be starting with an empty AddressBook");
             initialData = new AddressBook();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
@@ -174,6 +206,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        try {
+            logic.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
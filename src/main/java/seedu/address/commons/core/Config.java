@@ -5,16 +5,23 @@ import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.logging.Level;
 
+import seedu.address.commons.util.AtomicFileWriter.SyncPolicy;
+
 /**
  * Config values used by the app
  */
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final long DEFAULT_SAVE_DELAY_MILLIS = 500;
+    public static final int DEFAULT_BACKUP_COUNT = 3;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long saveDelayMillis = DEFAULT_SAVE_DELAY_MILLIS;
+    private SyncPolicy syncPolicy = SyncPolicy.FILE;
+    private int backupCount = DEFAULT_BACKUP_COUNT;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +39,40 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns how long after a change the address book is saved, so that the changes of a burst of commands are
+     * saved together. A negative delay saves after every command, before the command returns.
+     */
+    public long getSaveDelayMillis() {
+        return saveDelayMillis;
+    }
+
+    public void setSaveDelayMillis(long saveDelayMillis) {
+        this.saveDelayMillis = saveDelayMillis;
+    }
+
+    /**
+     * Returns how much of each save of the address book is forced to the disk before the save is considered done.
+     */
+    public SyncPolicy getSyncPolicy() {
+        return syncPolicy;
+    }
+
+    public void setSyncPolicy(SyncPolicy syncPolicy) {
+        this.syncPolicy = syncPolicy;
+    }
+
+    /**
+     * Returns how many of the previously saved address book files are kept as backups.
+     */
+    public int getBackupCount() {
+        return backupCount;
+    }
+
+    public void setBackupCount(int backupCount) {
+        this.backupCount = backupCount;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +85,15 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && saveDelayMillis == o.saveDelayMillis
+                && syncPolicy == o.syncPolicy
+                && backupCount == o.backupCount;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, saveDelayMillis, syncPolicy, backupCount);
     }
 
     @Override
@@ -0,0 +1,184 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Replaces the content of files so that a file is never left partly written, even if the app or the computer stops
+ * in the middle of a write.
+ *
+ * The new content is written to a temporary file in the same directory as the file, which is then renamed over the
+ * file in a single step. How much of the write is forced to the disk before and after the rename is set by a
+ * {@link SyncPolicy}. The replaced content can be kept in a number of rotating backups, the newest being
+ * {@code getBackupPath(file, 1)}.
+ */
+public class AtomicFileWriter {
+
+    /** Forces the content of each file to the disk before it replaces the old content, and keeps no backups. */
+    public static final AtomicFileWriter DEFAULT = new AtomicFileWriter(SyncPolicy.FILE, 0);
+
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
+    private static final Logger logger = LogsCenter.getLogger(AtomicFileWriter.class);
+
+    private final SyncPolicy syncPolicy;
+    private final int backupCount;
+
+    /**
+     * How much of a write is forced to the disk before the write is considered done.
+     */
+    public enum SyncPolicy {
+        /** Nothing is forced. A crash soon after a write may lose it, but never leaves a partly written file. */
+        NONE,
+        /** The new content is forced to the disk before it replaces the old content. */
+        FILE,
+        /** As {@link #FILE}, and the directory is forced as well after the rename, so that the rename is kept. */
+        FULL
+    }
+
+    /**
+     * Writes the content of a file to {@code channel}.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(FileChannel channel) throws IOException;
+    }
+
+    /**
+     * Creates a writer that forces writes to the disk as set by {@code syncPolicy}, and keeps {@code backupCount}
+     * backups of each file it replaces.
+     */
+    public AtomicFileWriter(SyncPolicy syncPolicy, int backupCount) {
+        requireNonNull(syncPolicy);
+        assert backupCount >= 0;
+        this.syncPolicy = syncPolicy;
+        this.backupCount = backupCount;
+    }
+
+    public SyncPolicy getSyncPolicy() {
+        return syncPolicy;
+    }
+
+    /**
+     * Returns the path of backup number {@code number} of {@code file}, where backup 1 is the newest.
+     */
+    public static Path getBackupPath(Path file, int number) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX + number);
+    }
+
+    /**
+     * Returns the paths of the backups of {@code file} that exist, newest first.
+     */
+    public static List<Path> getExistingBackupPaths(Path file) {
+        List<Path> backups = new ArrayList<>();
+        for (int number = 1; Files.exists(getBackupPath(file, number)); number++) {
+            backups.add(getBackupPath(file, number));
+        }
+        return backups;
+    }
+
+    /**
+     * Replaces the content of {@code file} with {@code content}.
+     */
+    public void write(Path file, byte[] content) throws IOException {
+        write(file, channel -> {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        });
+    }
+
+    /**
+     * Replaces the content of {@code file} with what {@code contentWriter} writes. The file and its missing parent
+     * directories are created if they do not exist. If {@code contentWriter} fails, the file is left as it was.
+     */
+    public void write(Path file, ContentWriter contentWriter) throws IOException {
+        requireNonNull(file);
+        requireNonNull(contentWriter);
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+
+        Path tempFile = createTempFile(directory, file.getFileName().toString());
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                contentWriter.writeTo(channel);
+                if (syncPolicy != SyncPolicy.NONE) {
+                    channel.force(true);
+                }
+            }
+            if (backupCount > 0 && Files.exists(file)) {
+                backUp(file);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        if (syncPolicy == SyncPolicy.FULL) {
+            forceDirectory(directory);
+        }
+    }
+
+    /**
+     * Creates an empty file in {@code directory} whose name starts with {@code prefix}. Unlike
+     * {@link Files#createTempFile}, the file gets the same permissions as any other new file, since it is to replace
+     * a file that may be read by others.
+     */
+    private static Path createTempFile(Path directory, String prefix) throws IOException {
+        while (true) {
+            Path tempFile = directory.resolve(prefix + "."
+                    + Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), Character.MAX_RADIX) + ".tmp");
+            try {
+                return Files.createFile(tempFile);
+            } catch (FileAlreadyExistsException e) {
+                // try another name
+            }
+        }
+    }
+
+    /**
+     * Moves each backup of {@code file} one place older, dropping the oldest, and makes the current content of
+     * {@code file} the newest backup. {@code file} itself is left in place until it is replaced.
+     */
+    private void backUp(Path file) throws IOException {
+        Files.deleteIfExists(getBackupPath(file, backupCount));
+        for (int number = backupCount - 1; number >= 1; number--) {
+            Path backup = getBackupPath(file, number);
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupPath(file, number + 1), StandardCopyOption.ATOMIC_MOVE);
+            }
+        }
+        Path newest = getBackupPath(file, 1);
+        try {
+            Files.createLink(newest, file);
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            Files.copy(file, newest);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to the disk, on the systems where a directory can be opened.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ioe) {
+            logger.fine("Could not force " + directory + " to the disk: " + ioe);
+        }
+    }
+}
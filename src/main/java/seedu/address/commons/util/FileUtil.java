@@ -73,11 +73,11 @@ public class FileUtil {
     }
 
     /**
-     * Writes given string to a file.
+     * Writes given string to a file, replacing it in a single step so that it is never left partly written.
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        AtomicFileWriter.DEFAULT.write(file, content.getBytes(CHARSET));
     }
 
 }
@@ -11,9 +11,11 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
@@ -110,6 +112,45 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data representation, encoded in UTF-8.
+     *
+     * @param isPretty whether the JSON is indented, or written without any whitespace.
+     */
+    public static <T> byte[] toJsonBytes(T instance, boolean isPretty) throws JsonProcessingException {
+        return (isPretty ? objectMapper.writerWithDefaultPrettyPrinter() : objectMapper.writer())
+                .writeValueAsBytes(instance);
+    }
+
+    /**
+     * Returns a parser that reads the JSON in {@code filePath} as a stream of tokens.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(Files.newInputStream(filePath));
+    }
+
+    /**
+     * Reads the JSON value at the current token of {@code parser} as an instance of a class.
+     */
+    public static <T> T readValue(JsonParser parser, Class<T> instanceClass) throws IOException {
+        return objectMapper.readValue(parser, instanceClass);
+    }
+
+    /**
+     * Converts a given instance of a class into a JSON tree.
+     */
+    public static <T> JsonNode toJsonTree(T instance) {
+        return objectMapper.valueToTree(instance);
+    }
+
+    /**
+     * Parses a given string representation of JSON data into a JSON tree.
+     */
+    public static JsonNode readJsonTree(String json) throws IOException {
+        return objectMapper.readTree(json);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
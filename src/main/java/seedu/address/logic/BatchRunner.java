@@ -0,0 +1,194 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.storage.Storage;
+
+/**
+ * Runs a script of commands against a model without the GUI.
+ *
+ * Each line of the script is one command, as it would be typed into the command box. Blank lines and lines starting
+ * with {@link #COMMENT_PREFIX} are skipped. A command that cannot be parsed or executed is reported with its line
+ * number, and the rest of the script still runs. The script stops early at an {@code exit} command.
+ *
+ * The address book is saved once at the end of the script, and also after every {@code checkpointInterval} commands
+ * if the interval is positive, so that a long script that is stopped part way keeps most of its work. As with
+ * {@link LogicManager}, nothing is saved if the address book did not change since the last save.
+ *
+ * The commands between two saves are run in a single model transaction, so that the filtered lists are brought up to
+ * date once per checkpoint rather than once per command, unless a command reads them. Failed commands do not roll
+ * the transaction back, since each command leaves the model unchanged when it fails.
+ */
+public class BatchRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final int checkpointInterval;
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+
+    /**
+     * Creates a runner that executes commands on {@code model} and saves it to {@code storage} at the end of each
+     * script, and after every {@code checkpointInterval} commands if it is positive.
+     */
+    public BatchRunner(Model model, Storage storage, int checkpointInterval) {
+        requireAllNonNull(model, storage);
+        this.model = model;
+        this.storage = storage;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Runs each command in {@code script}, then saves the address book if it changed.
+     *
+     * @throws IOException if the script cannot be read or the address book cannot be saved. Any checkpoints saved
+     *     before the failure are kept.
+     */
+    public Report run(BufferedReader script) throws IOException {
+        long startTime = System.nanoTime();
+        long savedVersion = model.getVersion();
+        int lineNumber = 0;
+        int commandCount = 0;
+        int saveCount = 0;
+        List<LineError> errors = new ArrayList<>();
+
+        model.beginTransaction();
+        try {
+            String line;
+            while ((line = script.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                commandCount++;
+                boolean isExit = false;
+                try {
+                    CommandResult result = addressBookParser.parseCommand(commandText).execute(model);
+                    isExit = result.isExit();
+                } catch (ParseException | CommandException e) {
+                    errors.add(new LineError(lineNumber, commandText, e.getMessage()));
+                }
+
+                boolean isCheckpoint = checkpointInterval > 0 && commandCount % checkpointInterval == 0;
+                if (isCheckpoint && model.getVersion() != savedVersion) {
+                    logger.fine("Saving checkpoint after line " + lineNumber);
+                    model.commitTransaction();
+                    model.beginTransaction();
+                    storage.saveAddressBook(model.getAddressBook());
+                    savedVersion = model.getVersion();
+                    saveCount++;
+                }
+                if (isExit) {
+                    break;
+                }
+            }
+        } finally {
+            model.commitTransaction();
+        }
+
+        if (model.getVersion() != savedVersion) {
+            storage.saveAddressBook(model.getAddressBook());
+            saveCount++;
+        }
+        return new Report(commandCount, saveCount, errors, System.nanoTime() - startTime);
+    }
+
+    /**
+     * A command of a script that could not be parsed or executed.
+     */
+    public static class LineError {
+        private final int lineNumber;
+        private final String commandText;
+        private final String message;
+
+        /**
+         * Creates an error for the command {@code commandText} on line {@code lineNumber} of a script.
+         */
+        public LineError(int lineNumber, String commandText, String message) {
+            this.lineNumber = lineNumber;
+            this.commandText = commandText;
+            this.message = message;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getCommandText() {
+            return commandText;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return "Line " + lineNumber + ": " + commandText + "\n    " + message.replace("\n", "\n    ");
+        }
+    }
+
+    /**
+     * What happened when a script was run.
+     */
+    public static class Report {
+        private final int commandCount;
+        private final int saveCount;
+        private final List<LineError> errors;
+        private final long elapsedNanos;
+
+        private Report(int commandCount, int saveCount, List<LineError> errors, long elapsedNanos) {
+            this.commandCount = commandCount;
+            this.saveCount = saveCount;
+            this.errors = Collections.unmodifiableList(errors);
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /** Returns the number of commands run, including those that failed. */
+        public int getCommandCount() {
+            return commandCount;
+        }
+
+        /** Returns the number of times the address book was saved, including the save at the end. */
+        public int getSaveCount() {
+            return saveCount;
+        }
+
+        public List<LineError> getErrors() {
+            return errors;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /** Returns the number of commands run per second, counting the time taken to save. */
+        public double getCommandsPerSecond() {
+            return elapsedNanos == 0 ? 0 : commandCount * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Ran %d commands (%d failed) in %.2f s, %.0f commands/s, saved %d time(s)",
+                    commandCount, errors.size(), elapsedNanos / 1e9, getCommandsPerSecond(), saveCount);
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -12,6 +16,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.module.event.Event;
@@ -20,6 +25,15 @@ import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ *
+ * By default the address book is saved after every command, before the command returns. A {@code LogicManager}
+ * created with a save delay saves in the background instead: commands only record that the address book changed,
+ * and all changes made within the delay are written together by a {@link WriteBehindSaver}. Commands never copy the
+ * address book: the saver takes a copy only when a save starts, so a burst of commands costs a single copy.
+ *
+ * Either way, nothing is saved after a command that did not change the address book, as told by
+ * {@link Model#getVersion()}, nor while the model is in a transaction. The changes made in a transaction are saved
+ * together after the command that ends it.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
@@ -29,13 +43,55 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    /** Saves in the background, or null if every command is saved before it returns. */
+    private final WriteBehindSaver saver;
+
+    /** Held while a command runs, and while the background saver copies the address book. */
+    private final Object modelLock = new Object();
+
+    /** The version of the model that was last saved, or handed to the background saver. */
+    private long savedVersion;
+
+    /** Copies the address book for the background saver, so that the copy can be read on its thread. */
+    private final UnaryOperator<ReadOnlyAddressBook> snapshotCopier;
+    /** The last copy taken for the background saver, or null if none, and the version of the model it holds. */
+    private ReadOnlyAddressBook snapshot;
+    private long snapshotVersion;
+
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the address
+     * book after every command.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        saver = null;
+        savedVersion = model.getVersion();
+        snapshotCopier = null;
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the address
+     * book in the background {@code saveDelayMillis} milliseconds after the first unsaved change.
+     */
+    public LogicManager(Model model, Storage storage, long saveDelayMillis) {
+        this(model, storage, saveDelayMillis, AddressBook::detachedCopyOf);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that saves in the background as above, where {@code snapshotCopier} takes
+     * the copy of the address book that each background save writes.
+     */
+    LogicManager(Model model, Storage storage, long saveDelayMillis,
+                 UnaryOperator<ReadOnlyAddressBook> snapshotCopier) {
+        requireNonNull(snapshotCopier);
+        this.model = model;
+        this.storage = storage;
+        this.snapshotCopier = snapshotCopier;
+        addressBookParser = new AddressBookParser();
+        saver = new WriteBehindSaver(storage, this::snapshotAddressBook, saveDelayMillis);
+        savedVersion = model.getVersion();
     }
 
     @Override
@@ -44,13 +100,27 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        synchronized (modelLock) {
+            commandResult = command.execute(model);
+        }
+
+        long version = model.getVersion();
+        if (version == savedVersion || model.isInTransaction()) {
+            return commandResult;
+        }
+
+        if (saver != null) {
+            saver.requestSave();
+            savedVersion = version;
+            return commandResult;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
+        savedVersion = version;
 
         return commandResult;
     }
@@ -84,4 +154,34 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        if (saver != null) {
+            saver.setFailureHandler(ioe -> saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (saver != null) {
+            saver.flush();
+        }
+    }
+
+    /**
+     * Returns a copy of the address book for the background saver, which calls this only when a save starts.
+     * The last copy is returned again if the model has not changed since, as when a failed save is retried.
+     */
+    private ReadOnlyAddressBook snapshotAddressBook() {
+        synchronized (modelLock) {
+            long version = model.getVersion();
+            if (snapshot == null || version != snapshotVersion) {
+                snapshot = snapshotCopier.apply(model.getAddressBook());
+                snapshotVersion = version;
+            }
+            return snapshot;
+        }
+    }
 }
@@ -0,0 +1,117 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.Storage;
+
+/**
+ * Saves the address book on a background thread a while after it is changed.
+ * Every change requested before a save starts is written by that one save, so a burst of changes is only saved once,
+ * and the caller never waits for the file to be written. The background thread is a daemon thread, so it does not
+ * keep the application running; call {@link #flush()} before exiting to write the last changes.
+ */
+class WriteBehindSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final Storage storage;
+    private final Supplier<ReadOnlyAddressBook> snapshotSupplier;
+    private final long delayMillis;
+    private final ScheduledExecutorService executor;
+
+    /** Held while a snapshot is taken and written, so that saves never overlap. */
+    private final Object writeLock = new Object();
+
+    private boolean hasUnsavedChanges;
+    private boolean isSaveScheduled;
+    private Consumer<IOException> failureHandler = exception -> { };
+
+    /**
+     * Creates a saver that writes to {@code storage} {@code delayMillis} milliseconds after the first unsaved change.
+     *
+     * @param snapshotSupplier returns a copy of the address book that is safe to read on the background thread
+     */
+    WriteBehindSaver(Storage storage, Supplier<ReadOnlyAddressBook> snapshotSupplier, long delayMillis) {
+        requireNonNull(storage);
+        requireNonNull(snapshotSupplier);
+        this.storage = storage;
+        this.snapshotSupplier = snapshotSupplier;
+        this.delayMillis = Math.max(0, delayMillis);
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is called on the background thread when a save fails.
+     */
+    void setFailureHandler(Consumer<IOException> failureHandler) {
+        this.failureHandler = requireNonNull(failureHandler);
+    }
+
+    /**
+     * Records that the address book has changed, and schedules a save unless one is already waiting to start.
+     */
+    synchronized void requestSave() {
+        hasUnsavedChanges = true;
+        if (isSaveScheduled) {
+            return;
+        }
+        isSaveScheduled = true;
+        executor.schedule(this::saveInBackground, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes any unsaved changes on the calling thread, after waiting for a save in progress to finish.
+     *
+     * @throws IOException if the changes could not be written
+     */
+    void flush() throws IOException {
+        save();
+    }
+
+    private void saveInBackground() {
+        synchronized (this) {
+            isSaveScheduled = false;
+        }
+        try {
+            save();
+        } catch (IOException ioe) {
+            logger.warning("Failed to save address book " + StringUtil.getDetails(ioe));
+            failureHandler.accept(ioe);
+        }
+    }
+
+    private void save() throws IOException {
+        synchronized (writeLock) {
+            synchronized (this) {
+                if (!hasUnsavedChanges) {
+                    return;
+                }
+                hasUnsavedChanges = false;
+            }
+            try {
+                storage.saveAddressBook(snapshotSupplier.get());
+            } catch (IOException ioe) {
+                // Keep the changes unsaved so that the next save or flush tries again
+                synchronized (this) {
+                    hasUnsavedChanges = true;
+                }
+                throw ioe;
+            }
+        }
+    }
+}
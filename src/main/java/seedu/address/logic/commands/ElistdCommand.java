@@ -0,0 +1,81 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_DATE;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.module.event.Event;
+
+/**
+ * Lists the events in Ailurus that take place within a range of dates.
+ */
+public class ElistdCommand extends Command {
+
+    public static final String COMMAND_WORD = "elistd";
+
+    public static final int NO_LIMIT = Integer.MAX_VALUE;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the events that take place within a range of "
+            + "dates. The range starts today if no start date is given, and has no end if no end date is given.\n"
+            + "Parameters: "
+            + "[" + PREFIX_FROM_DATE + " START_DATE] "
+            + "[" + PREFIX_TO_DATE + " END_DATE] "
+            + "[" + PREFIX_COUNT + " COUNT]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_FROM_DATE + " 01/11/2022 "
+            + PREFIX_TO_DATE + " 07/11/2022\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_COUNT + " 5";
+
+    private final LocalDate start;
+    private final LocalDate end;
+    private final int limit;
+
+    /**
+     * Creates an ElistdCommand to list at most {@code limit} of the earliest events from {@code start} to
+     * {@code end}, both inclusive.
+     */
+    public ElistdCommand(LocalDate start, LocalDate end, int limit) {
+        requireAllNonNull(start, end);
+        this.start = start;
+        this.end = end;
+        this.limit = limit;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Event> events = limit == NO_LIMIT
+                ? model.getEventsBetween(start, end)
+                : model.getUpcomingEvents(start, limit);
+
+        Set<Event> eventsToShow = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Event event : events) {
+            if (!event.getDate().eventDate.isAfter(end)) {
+                eventsToShow.add(event);
+            }
+        }
+        model.updateFilteredEventList(eventsToShow::contains);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, model.getFilteredEventList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ElistdCommand // instanceof handles nulls
+                && start.equals(((ElistdCommand) other).start)
+                && end.equals(((ElistdCommand) other).end)
+                && limit == ((ElistdCommand) other).limit); // state check
+    }
+}
@@ -3,14 +3,13 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
-import java.util.Set;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.module.event.Event;
-import seedu.address.model.module.member.Member;
+import seedu.address.model.module.member.ParticipatesInEventPredicate;
 
 /**
  * Lists all members in Ailurus who are in the event.
@@ -42,8 +41,7 @@ public class ElistmCommand extends Command {
         }
 
         Event eventToList = lastShownList.get(targetIndex.getZeroBased());
-        Set<Member> memberList = eventToList.getParticipants();
-        model.updateFilteredMemberList(member -> memberList.contains(member));
+        model.updateFilteredMemberList(new ParticipatesInEventPredicate(eventToList));
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, eventToList, model.getFilteredMemberList().size()));
     }
@@ -9,7 +9,9 @@ import seedu.address.model.module.member.Member;
 
 /**
  * Finds and lists all members in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive. The members are found with the name index of the model, which gives the same
+ * result as testing every member with the predicate. Repeating a search while the address book is unchanged uses the
+ * results cached by the model.
  */
 public class FindCommand extends Command {
 
@@ -29,7 +31,7 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredMemberList(predicate);
+        model.updateFilteredMemberList(predicate, () -> model.findMembersByName(predicate.getKeywords()));
         return new CommandResult(
                 String.format(Messages.MESSAGE_MEMBERS_LISTED_OVERVIEW, model.getFilteredMemberList().size()));
     }
@@ -0,0 +1,53 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.module.member.HoldsPositionsPredicate;
+import seedu.address.model.module.member.position.Position;
+
+/**
+ * Finds and lists all members in address book who hold a combination of positions.
+ * Position matching is case sensitive.
+ */
+public class PfindCommand extends Command {
+
+    public static final String COMMAND_WORD = "pfind";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all members who hold the specified "
+            + "positions (case-sensitive) and displays them as a list with index numbers.\n"
+            + "Positions can be combined with \"and\" and \"or\", where \"and\" is applied first. "
+            + "Positions without an operator between them are combined with \"or\".\n"
+            + "Parameters: POSITION [and|or POSITION]...\n"
+            + "Example: " + COMMAND_WORD + " Treasurer and Logistics or President";
+
+    private final List<Set<Position>> clauses;
+
+    /**
+     * Creates a PfindCommand to find the members who hold all the positions in at least one of {@code clauses}.
+     */
+    public PfindCommand(List<Set<Position>> clauses) {
+        requireNonNull(clauses);
+        this.clauses = clauses;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        HoldsPositionsPredicate predicate = new HoldsPositionsPredicate(clauses);
+        model.updateFilteredMemberList(predicate, () -> model.getMembersWithPositions(clauses));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_MEMBERS_LISTED_OVERVIEW, model.getFilteredMemberList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PfindCommand // instanceof handles nulls
+                && clauses.equals(((PfindCommand) other).clauses)); // state check
+    }
+}
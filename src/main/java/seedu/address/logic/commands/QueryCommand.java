@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.query.Query;
+import seedu.address.logic.query.QueryPlan;
+import seedu.address.model.Model;
+import seedu.address.model.module.member.Member;
+
+/**
+ * Lists all members in address book who pass a query over their fields, positions, tasks and events.
+ * The members are found by a {@link QueryPlan}, which is shown with the result if asked for. If the results of an
+ * equal query were cached, the plan is not executed, and the explanation says that the cached results were used.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+    public static final String EXPLAIN_KEYWORD = "explain";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all members who pass the query and displays "
+            + "them as a list with index numbers. Conditions are joined with AND, OR and NOT, where NOT is applied "
+            + "first and OR last, and can be grouped with parentheses. Start with \"explain\" to also show how the "
+            + "members are found.\n"
+            + "Conditions: name=WORD, phone=TEXT, email=TEXT, address=TEXT, position=POSITION, "
+            + "task:done, task:undone, in(event INDEX), attended(event INDEX)\n"
+            + "Values cannot contain spaces, so a condition such as address=TEXT looks for one word, "
+            + "e.g. address=Clementi.\n"
+            + "Parameters: [explain] CONDITION [AND|OR [NOT] CONDITION]...\n"
+            + "Example: " + COMMAND_WORD + " position=Treasurer AND attended(event 3) AND NOT task:done";
+
+    public static final String MESSAGE_CACHED_RESULTS = "Candidates: cached results of an equal query\nFilter: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(QueryCommand.class);
+
+    private final Query query;
+    private final boolean isExplain;
+
+    /**
+     * Creates a QueryCommand to list the members who pass {@code query}, showing the plan used if
+     * {@code isExplain}.
+     */
+    public QueryCommand(Query query, boolean isExplain) {
+        requireNonNull(query);
+        this.query = query;
+        this.isExplain = isExplain;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Query boundQuery = query.bind(model);
+        QueryPlan plan = QueryPlan.of(boundQuery, model);
+        // the plan only looks up its index if the results of an equal query are not cached
+        Supplier<List<Member>> search = () -> {
+            logger.fine("Plan for query " + boundQuery + ":\n" + plan);
+            return plan.execute();
+        };
+        model.updateFilteredMemberList(boundQuery, search);
+
+        String result = String.format(Messages.MESSAGE_MEMBERS_LISTED_OVERVIEW, model.getFilteredMemberList().size());
+        if (!isExplain) {
+            return new CommandResult(result);
+        }
+        String explanation = plan.isExecuted() ? plan.toString() : String.format(MESSAGE_CACHED_RESULTS, boundQuery);
+        return new CommandResult(result + "\n" + explanation);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof QueryCommand // instanceof handles nulls
+                && query.equals(((QueryCommand) other).query)
+                && isExplain == ((QueryCommand) other).isExplain); // state check
+    }
+}
@@ -13,12 +13,15 @@ import seedu.address.logic.commands.EaddCommand;
 import seedu.address.logic.commands.EdeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ElistCommand;
+import seedu.address.logic.commands.ElistdCommand;
 import seedu.address.logic.commands.ElistmCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.PaddCommand;
+import seedu.address.logic.commands.PfindCommand;
+import seedu.address.logic.commands.QueryCommand;
 import seedu.address.logic.commands.TaddCommand;
 import seedu.address.logic.commands.TdelCommand;
 import seedu.address.logic.commands.TlistCommand;
@@ -66,6 +69,9 @@ public class AddressBookParser {
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case PfindCommand.COMMAND_WORD:
+            return new PfindCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
@@ -87,6 +93,9 @@ public class AddressBookParser {
         case ElistmCommand.COMMAND_WORD:
             return new ElistmCommandParser().parse(arguments);
 
+        case ElistdCommand.COMMAND_WORD:
+            return new ElistdCommandParser().parse(arguments);
+
         case TaddCommand.COMMAND_WORD:
             return new TaddCommandParser().parse(arguments);
 
@@ -96,6 +105,9 @@ public class AddressBookParser {
         case TlistCommand.COMMAND_WORD:
             return new TlistCommandParser().parse(arguments);
 
+        case QueryCommand.COMMAND_WORD:
+            return new QueryCommandParser().parse(arguments);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
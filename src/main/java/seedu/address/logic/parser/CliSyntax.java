@@ -16,4 +16,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_EVENT = new Prefix("/v");
     public static final Prefix PREFIX_TASK_ID = new Prefix("/t");
     public static final Prefix PREFIX_MEMBER_ID_DEL = new Prefix("/for");
+    public static final Prefix PREFIX_FROM_DATE = new Prefix("/from");
+    public static final Prefix PREFIX_TO_DATE = new Prefix("/to");
+    public static final Prefix PREFIX_COUNT = new Prefix("/next");
 }
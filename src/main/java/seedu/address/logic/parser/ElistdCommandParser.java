@@ -0,0 +1,55 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_DATE;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import seedu.address.logic.commands.ElistdCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ElistdCommand object
+ */
+public class ElistdCommandParser implements Parser<ElistdCommand> {
+
+    public static final String MESSAGE_START_AFTER_END = "The start date should not be after the end date.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ElistdCommand
+     * and returns an ElistdCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ElistdCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_FROM_DATE, PREFIX_TO_DATE, PREFIX_COUNT);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ElistdCommand.MESSAGE_USAGE));
+        }
+
+        Optional<String> startDate = argMultimap.getValue(PREFIX_FROM_DATE);
+        Optional<String> endDate = argMultimap.getValue(PREFIX_TO_DATE);
+        Optional<String> count = argMultimap.getValue(PREFIX_COUNT);
+        if (startDate.isEmpty() && endDate.isEmpty() && count.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ElistdCommand.MESSAGE_USAGE));
+        }
+
+        LocalDate start = startDate.isPresent()
+                ? ParserUtil.parseEventDate(startDate.get()).eventDate
+                : LocalDate.now();
+        LocalDate end = endDate.isPresent()
+                ? ParserUtil.parseEventDate(endDate.get()).eventDate
+                : LocalDate.MAX;
+        int limit = count.isPresent() ? ParserUtil.parseCount(count.get()) : ElistdCommand.NO_LIMIT;
+        if (start.isAfter(end)) {
+            throw new ParseException(MESSAGE_START_AFTER_END);
+        }
+
+        return new ElistdCommand(start, end, limit);
+    }
+
+}
@@ -0,0 +1,67 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.logic.commands.PfindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.module.member.position.Position;
+
+/**
+ * Parses input arguments and creates a new PfindCommand object
+ */
+public class PfindCommandParser implements Parser<PfindCommand> {
+
+    private static final String OPERATOR_AND = "and";
+    private static final String OPERATOR_OR = "or";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the PfindCommand
+     * and returns a PfindCommand object for execution.
+     * The positions are grouped into clauses of positions joined by "and", and the clauses are joined by "or".
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public PfindCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw invalidFormat();
+        }
+
+        List<Set<Position>> clauses = new ArrayList<>();
+        Set<Position> clause = new HashSet<>();
+        boolean expectingPosition = true;
+        boolean joinedByAnd = false;
+        for (String word : trimmedArgs.split("\\s+")) {
+            boolean isAnd = word.equalsIgnoreCase(OPERATOR_AND);
+            if (isAnd || word.equalsIgnoreCase(OPERATOR_OR)) {
+                if (expectingPosition) {
+                    throw invalidFormat();
+                }
+                expectingPosition = true;
+                joinedByAnd = isAnd;
+                continue;
+            }
+            if (!joinedByAnd && !clause.isEmpty()) {
+                clauses.add(clause);
+                clause = new HashSet<>();
+            }
+            clause.add(ParserUtil.parsePosition(word));
+            expectingPosition = false;
+            joinedByAnd = false;
+        }
+        if (expectingPosition) {
+            throw invalidFormat();
+        }
+        clauses.add(clause);
+
+        return new PfindCommand(clauses);
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, PfindCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.query.AndQuery;
+import seedu.address.logic.query.EventQuery;
+import seedu.address.logic.query.FieldQuery;
+import seedu.address.logic.query.FieldQuery.Field;
+import seedu.address.logic.query.NotQuery;
+import seedu.address.logic.query.OrQuery;
+import seedu.address.logic.query.PositionQuery;
+import seedu.address.logic.query.Query;
+import seedu.address.logic.query.TaskQuery;
+
+/**
+ * Parses input arguments and creates a new QueryCommand object
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+    private static final String POSITION_FIELD = "position";
+    private static final String FIELD_SEPARATOR = "=";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     * {@code NOT} is applied before {@code AND}, and {@code AND} before {@code OR}. The operators ignore case.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryCommand parse(String args) throws ParseException {
+        String spacedArgs = args.replace(OPEN, " " + OPEN + " ").replace(CLOSE, " " + CLOSE + " ").trim();
+        if (spacedArgs.isEmpty()) {
+            throw invalidFormat();
+        }
+        Deque<String> tokens = new ArrayDeque<>(Arrays.asList(spacedArgs.split("\\s+")));
+
+        boolean isExplain = tokens.peekFirst().equalsIgnoreCase(QueryCommand.EXPLAIN_KEYWORD);
+        if (isExplain) {
+            tokens.removeFirst();
+        }
+        Query query = parseOr(tokens);
+        if (!tokens.isEmpty()) {
+            throw invalidFormat();
+        }
+        return new QueryCommand(query, isExplain);
+    }
+
+    private static Query parseOr(Deque<String> tokens) throws ParseException {
+        List<Query> operands = new ArrayList<>();
+        operands.add(parseAnd(tokens));
+        while (isNext(tokens, OrQuery.OPERATOR)) {
+            tokens.removeFirst();
+            operands.add(parseAnd(tokens));
+        }
+        return operands.size() == 1 ? operands.get(0) : new OrQuery(operands);
+    }
+
+    private static Query parseAnd(Deque<String> tokens) throws ParseException {
+        List<Query> operands = new ArrayList<>();
+        operands.add(parseNot(tokens));
+        while (isNext(tokens, AndQuery.OPERATOR)) {
+            tokens.removeFirst();
+            operands.add(parseNot(tokens));
+        }
+        return operands.size() == 1 ? operands.get(0) : new AndQuery(operands);
+    }
+
+    private static Query parseNot(Deque<String> tokens) throws ParseException {
+        if (isNext(tokens, NotQuery.OPERATOR)) {
+            tokens.removeFirst();
+            return new NotQuery(parseNot(tokens));
+        }
+        if (isNext(tokens, OPEN)) {
+            tokens.removeFirst();
+            Query query = parseOr(tokens);
+            expect(tokens, CLOSE);
+            return query;
+        }
+        return parseCondition(tokens);
+    }
+
+    private static Query parseCondition(Deque<String> tokens) throws ParseException {
+        if (tokens.isEmpty()) {
+            throw invalidFormat();
+        }
+        String token = tokens.removeFirst();
+
+        boolean isAttended = token.equalsIgnoreCase(EventQuery.KEYWORD_ATTENDED);
+        if (isAttended || token.equalsIgnoreCase(EventQuery.KEYWORD_IN)) {
+            expect(tokens, OPEN);
+            expect(tokens, EventQuery.KEYWORD_EVENT);
+            Index index = ParserUtil.parseIndex(tokens.isEmpty() ? "" : tokens.removeFirst());
+            expect(tokens, CLOSE);
+            return new EventQuery(index, isAttended);
+        }
+
+        if (token.regionMatches(true, 0, TaskQuery.PREFIX, 0, TaskQuery.PREFIX.length())) {
+            String status = token.substring(TaskQuery.PREFIX.length());
+            if (status.equalsIgnoreCase(TaskQuery.STATUS_DONE)) {
+                return new TaskQuery(true);
+            } else if (status.equalsIgnoreCase(TaskQuery.STATUS_UNDONE)) {
+                return new TaskQuery(false);
+            }
+            throw invalidFormat();
+        }
+
+        int separator = token.indexOf(FIELD_SEPARATOR);
+        if (separator <= 0 || separator == token.length() - 1) {
+            throw invalidFormat();
+        }
+        String fieldName = token.substring(0, separator);
+        String value = token.substring(separator + 1);
+        if (fieldName.equalsIgnoreCase(POSITION_FIELD)) {
+            return new PositionQuery(ParserUtil.parsePosition(value));
+        }
+        Optional<Field> field = Field.of(fieldName);
+        if (field.isEmpty()) {
+            throw invalidFormat();
+        }
+        return new FieldQuery(field.get(), value);
+    }
+
+    private static boolean isNext(Deque<String> tokens, String expected) {
+        return !tokens.isEmpty() && tokens.peekFirst().equalsIgnoreCase(expected);
+    }
+
+    private static void expect(Deque<String> tokens, String expected) throws ParseException {
+        if (!isNext(tokens, expected)) {
+            throw invalidFormat();
+        }
+        tokens.removeFirst();
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+    }
+}
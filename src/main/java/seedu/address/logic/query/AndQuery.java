@@ -0,0 +1,62 @@
+package seedu.address.logic.query;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import seedu.address.model.Model;
+import seedu.address.model.module.member.Member;
+
+/**
+ * Tests that a member passes all of its operands, written as {@code QUERY AND QUERY...}.
+ * Its candidates are those of the operand whose index is estimated to give the fewest members. Only the index of that
+ * operand is looked up.
+ */
+public class AndQuery extends CompoundQuery {
+    public static final String OPERATOR = "AND";
+
+    /**
+     * Creates a query for the members who pass all of {@code operands}.
+     */
+    public AndQuery(List<Query> operands) {
+        super(OPERATOR, operands);
+    }
+
+    @Override
+    protected CompoundQuery withOperands(List<Query> operands) {
+        return new AndQuery(operands);
+    }
+
+    @Override
+    public boolean test(Member member) {
+        for (Query operand : operands) {
+            if (!operand.test(member)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Optional<IndexLookup> findCandidates(Model model) {
+        Query smallest = null;
+        int smallestEstimate = Integer.MAX_VALUE;
+        for (Query operand : operands) {
+            OptionalInt estimate = operand.estimateCandidates(model);
+            if (estimate.isPresent() && (smallest == null || estimate.getAsInt() < smallestEstimate)) {
+                smallest = operand;
+                smallestEstimate = estimate.getAsInt();
+            }
+        }
+        return smallest == null ? Optional.empty() : smallest.findCandidates(model);
+    }
+
+    @Override
+    public OptionalInt estimateCandidates(Model model) {
+        return operands.stream()
+                .map(operand -> operand.estimateCandidates(model))
+                .filter(OptionalInt::isPresent)
+                .mapToInt(OptionalInt::getAsInt)
+                .min();
+    }
+}
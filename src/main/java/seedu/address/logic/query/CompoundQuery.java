@@ -0,0 +1,78 @@
+package seedu.address.logic.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * A query made of two or more queries joined by the same operator.
+ */
+public abstract class CompoundQuery extends Query {
+    protected final List<Query> operands;
+    private final String operator;
+
+    /**
+     * Creates a query that joins {@code operands} with {@code operator}.
+     */
+    protected CompoundQuery(String operator, List<Query> operands) {
+        requireAllNonNull(operator, operands);
+        if (operands.size() < 2) {
+            throw new IllegalArgumentException(operator + " needs at least two operands");
+        }
+        this.operator = operator;
+        this.operands = Collections.unmodifiableList(new ArrayList<>(operands));
+    }
+
+    /**
+     * Returns a query that joins {@code operands} with the same operator as this one.
+     */
+    protected abstract CompoundQuery withOperands(List<Query> operands);
+
+    public List<Query> getOperands() {
+        return operands;
+    }
+
+    @Override
+    public Query bind(Model model) throws CommandException {
+        List<Query> boundOperands = new ArrayList<>();
+        for (Query operand : operands) {
+            boundOperands.add(operand.bind(model));
+        }
+        return withOperands(boundOperands);
+    }
+
+    @Override
+    public boolean dependsOnEvents() {
+        return operands.stream().anyMatch(Query::dependsOnEvents);
+    }
+
+    @Override
+    boolean needsParentheses() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other != null && other.getClass() == getClass()
+                && operands.equals(((CompoundQuery) other).operands)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return operator.hashCode() * 31 + operands.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return operands.stream()
+                .map(Query::toNestedString)
+                .collect(Collectors.joining(" " + operator + " "));
+    }
+}
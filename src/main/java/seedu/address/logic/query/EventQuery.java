@@ -0,0 +1,116 @@
+package seedu.address.logic.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.module.event.Event;
+import seedu.address.model.module.member.Member;
+
+/**
+ * Tests that a member takes part in an event, written as {@code in(event INDEX)}, or that the member attended it,
+ * written as {@code attended(event INDEX)}. The index is the one shown in the displayed event list.
+ */
+public class EventQuery extends Query {
+    public static final String KEYWORD_IN = "in";
+    public static final String KEYWORD_ATTENDED = "attended";
+    public static final String KEYWORD_EVENT = "event";
+
+    private final Index eventIndex;
+    private final boolean isAttendedOnly;
+    private final Event event;
+
+    /**
+     * Creates a query for the participants of the event at {@code eventIndex}, or only those who attended it if
+     * {@code isAttendedOnly}.
+     */
+    public EventQuery(Index eventIndex, boolean isAttendedOnly) {
+        this(eventIndex, isAttendedOnly, null);
+    }
+
+    private EventQuery(Index eventIndex, boolean isAttendedOnly, Event event) {
+        requireNonNull(eventIndex);
+        this.eventIndex = eventIndex;
+        this.isAttendedOnly = isAttendedOnly;
+        this.event = event;
+    }
+
+    @Override
+    public Query bind(Model model) throws CommandException {
+        List<Event> lastShownList = model.getFilteredEventList();
+        if (eventIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_EVENT_DISPLAYED_INDEX);
+        }
+        return new EventQuery(eventIndex, isAttendedOnly, lastShownList.get(eventIndex.getZeroBased()));
+    }
+
+    @Override
+    public boolean test(Member member) {
+        requireBound();
+        return isAttendedOnly ? event.hasAttended(member) : event.isParticipatingInEvent(member);
+    }
+
+    @Override
+    public Optional<IndexLookup> findCandidates(Model model) {
+        requireBound();
+        if (!isAttendedOnly) {
+            return Optional.of(new IndexLookup("participants of " + event.getName(), event.getParticipants()));
+        }
+        List<Member> attendees = event.getMap().entrySet().stream()
+                .filter(Map.Entry::getValue)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        return Optional.of(new IndexLookup("attendees of " + event.getName(), attendees));
+    }
+
+    @Override
+    public OptionalInt estimateCandidates(Model model) {
+        requireBound();
+        return OptionalInt.of(isAttendedOnly ? event.getAttendedCount() : event.getParticipantCount());
+    }
+
+    @Override
+    public boolean dependsOnEvents() {
+        return true;
+    }
+
+    private void requireBound() {
+        if (event == null) {
+            throw new IllegalStateException("The query has not been bound to a model");
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof EventQuery)) {
+            return false;
+        }
+        // bound queries are for the same event only if it is the same object
+        EventQuery otherQuery = (EventQuery) other;
+        return eventIndex.equals(otherQuery.eventIndex)
+                && isAttendedOnly == otherQuery.isAttendedOnly
+                && event == otherQuery.event;
+    }
+
+    @Override
+    public int hashCode() {
+        return eventIndex.getZeroBased() * 2 + (isAttendedOnly ? 1 : 0);
+    }
+
+    @Override
+    public String toString() {
+        return (isAttendedOnly ? KEYWORD_ATTENDED : KEYWORD_IN) + "(" + KEYWORD_EVENT + " "
+                + eventIndex.getOneBased() + ")";
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.address.logic.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import seedu.address.model.Model;
+import seedu.address.model.module.KeywordMatcher;
+import seedu.address.model.module.member.Member;
+
+/**
+ * Tests a field of a member against a value, written as {@code FIELD=VALUE}.
+ *
+ * A name matches if one of its words contains the value, like {@code find}, so {@code name=ali} matches "Alice".
+ * The other fields match if they contain the value anywhere. Both ignore case.
+ */
+public class FieldQuery extends Query {
+
+    /**
+     * The member fields that can be queried.
+     */
+    public enum Field {
+        NAME("name"), PHONE("phone"), EMAIL("email"), ADDRESS("address");
+
+        private final String keyword;
+
+        Field(String keyword) {
+            this.keyword = keyword;
+        }
+
+        /**
+         * Returns the field written as {@code keyword}, ignoring case, if there is one.
+         */
+        public static Optional<Field> of(String keyword) {
+            for (Field field : values()) {
+                if (field.keyword.equalsIgnoreCase(keyword)) {
+                    return Optional.of(field);
+                }
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        public String toString() {
+            return keyword;
+        }
+    }
+
+    private final Field field;
+    private final String value;
+    private final String lowerCaseValue;
+    private final KeywordMatcher nameMatcher;
+
+    /**
+     * Creates a query for the members whose {@code field} matches {@code value}.
+     */
+    public FieldQuery(Field field, String value) {
+        requireAllNonNull(field, value);
+        this.field = field;
+        this.value = value;
+        this.lowerCaseValue = value.toLowerCase(Locale.ROOT);
+        this.nameMatcher = new KeywordMatcher(Collections.singletonList(value));
+    }
+
+    @Override
+    public Query bind(Model model) {
+        return this;
+    }
+
+    @Override
+    public boolean test(Member member) {
+        switch (field) {
+        case NAME:
+            return nameMatcher.matchesAny(member.getName());
+        case PHONE:
+            return contains(member.getPhone().value);
+        case EMAIL:
+            return member.getEmail().map(email -> contains(email.value)).orElse(false);
+        case ADDRESS:
+            return member.getAddress().map(address -> contains(address.value)).orElse(false);
+        default:
+            throw new AssertionError("Unknown field " + field);
+        }
+    }
+
+    private boolean contains(String fieldValue) {
+        return fieldValue.toLowerCase(Locale.ROOT).contains(lowerCaseValue);
+    }
+
+    @Override
+    public Optional<IndexLookup> findCandidates(Model model) {
+        if (field != Field.NAME) {
+            return Optional.empty();
+        }
+        return Optional.of(new IndexLookup("name index for " + this,
+                model.findMembersByName(Collections.singletonList(value))));
+    }
+
+    @Override
+    public OptionalInt estimateCandidates(Model model) {
+        if (field != Field.NAME) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(model.estimateMembersByName(Collections.singletonList(value)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FieldQuery // instanceof handles nulls
+                && field == ((FieldQuery) other).field
+                && value.equals(((FieldQuery) other).value)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return field.hashCode() * 31 + value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return field + "=" + value;
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.logic.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.module.member.Member;
+
+/**
+ * The members found with an index of the address book, and a description of how they were found.
+ */
+public class IndexLookup {
+    private final String description;
+    private final Collection<Member> members;
+
+    /**
+     * Creates a lookup that found {@code members}, as described by {@code description}.
+     */
+    public IndexLookup(String description, Collection<Member> members) {
+        requireAllNonNull(description, members);
+        this.description = description;
+        this.members = members;
+    }
+
+    /**
+     * Returns a lookup of the members found by any of {@code lookups}, each counted once.
+     */
+    public static IndexLookup union(List<IndexLookup> lookups) {
+        Set<Member> members = Collections.newSetFromMap(new IdentityHashMap<>());
+        StringBuilder description = new StringBuilder();
+        for (IndexLookup lookup : lookups) {
+            members.addAll(lookup.members);
+            description.append(description.length() == 0 ? "" : " + ").append(lookup.description);
+        }
+        return new IndexLookup("union of " + description, members);
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Collection<Member> getMembers() {
+        return members;
+    }
+
+    public int size() {
+        return members.size();
+    }
+
+    @Override
+    public String toString() {
+        return description + " (" + size() + " members)";
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.logic.query;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.module.member.Member;
+
+/**
+ * Tests that a member does not pass another query, written as {@code NOT QUERY}. There is no index for it.
+ */
+public class NotQuery extends Query {
+    public static final String OPERATOR = "NOT";
+
+    private final Query operand;
+
+    /**
+     * Creates a query for the members who do not pass {@code operand}.
+     */
+    public NotQuery(Query operand) {
+        requireNonNull(operand);
+        this.operand = operand;
+    }
+
+    @Override
+    public Query bind(Model model) throws CommandException {
+        return new NotQuery(operand.bind(model));
+    }
+
+    @Override
+    public boolean test(Member member) {
+        return !operand.test(member);
+    }
+
+    @Override
+    public boolean dependsOnEvents() {
+        return operand.dependsOnEvents();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NotQuery // instanceof handles nulls
+                && operand.equals(((NotQuery) other).operand)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return ~operand.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return OPERATOR + " " + operand.toNestedString();
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.logic.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import seedu.address.model.Model;
+import seedu.address.model.module.member.Member;
+
+/**
+ * Tests that a member passes any of its operands, written as {@code QUERY OR QUERY...}.
+ * It only has candidates if every operand has, in which case they are the candidates of all the operands together.
+ */
+public class OrQuery extends CompoundQuery {
+    public static final String OPERATOR = "OR";
+
+    /**
+     * Creates a query for the members who pass any of {@code operands}.
+     */
+    public OrQuery(List<Query> operands) {
+        super(OPERATOR, operands);
+    }
+
+    @Override
+    protected CompoundQuery withOperands(List<Query> operands) {
+        return new OrQuery(operands);
+    }
+
+    @Override
+    public boolean test(Member member) {
+        for (Query operand : operands) {
+            if (operand.test(member)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Optional<IndexLookup> findCandidates(Model model) {
+        // an operand without an index means every member must be tested, so no index is looked up
+        if (estimateCandidates(model).isEmpty()) {
+            return Optional.empty();
+        }
+        List<IndexLookup> lookups = new ArrayList<>();
+        for (Query operand : operands) {
+            operand.findCandidates(model).ifPresent(lookups::add);
+        }
+        return Optional.of(IndexLookup.union(lookups));
+    }
+
+    @Override
+    public OptionalInt estimateCandidates(Model model) {
+        long estimate = 0;
+        for (Query operand : operands) {
+            OptionalInt operandEstimate = operand.estimateCandidates(model);
+            if (operandEstimate.isEmpty()) {
+                return OptionalInt.empty();
+            }
+            estimate += operandEstimate.getAsInt();
+        }
+        return OptionalInt.of((int) Math.min(estimate, Integer.MAX_VALUE));
+    }
+}
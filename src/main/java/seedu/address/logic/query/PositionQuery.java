@@ -0,0 +1,65 @@
+package seedu.address.logic.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import seedu.address.model.Model;
+import seedu.address.model.module.member.Member;
+import seedu.address.model.module.member.position.Position;
+
+/**
+ * Tests that a member holds a position, written as {@code position=POSITION}. Positions are case sensitive, as in
+ * {@code pfind}.
+ */
+public class PositionQuery extends Query {
+    private final Position position;
+
+    /**
+     * Creates a query for the members who hold {@code position}.
+     */
+    public PositionQuery(Position position) {
+        requireNonNull(position);
+        this.position = position;
+    }
+
+    @Override
+    public Query bind(Model model) {
+        return this;
+    }
+
+    @Override
+    public boolean test(Member member) {
+        return member.getPositions().contains(position);
+    }
+
+    @Override
+    public Optional<IndexLookup> findCandidates(Model model) {
+        return Optional.of(new IndexLookup("position index for " + this,
+                model.getMembersWithPositions(Collections.singletonList(Collections.singleton(position)))));
+    }
+
+    @Override
+    public OptionalInt estimateCandidates(Model model) {
+        return OptionalInt.of(model.countMembersWithPosition(position));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PositionQuery // instanceof handles nulls
+                && position.equals(((PositionQuery) other).position)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return position.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "position=" + position.positionName;
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.logic.query;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.CacheablePredicate;
+import seedu.address.model.Model;
+import seedu.address.model.module.member.Member;
+
+/**
+ * A condition on members, made of member fields, positions, task status and event participation joined with
+ * {@code AND}, {@code OR} and {@code NOT}.
+ *
+ * Conditions that refer to events by their index in the displayed event list must be bound to a model with
+ * {@link #bind(Model)} before members can be tested against them. Queries are compared by their conditions, so the
+ * results of an equal query can be reused.
+ */
+public abstract class Query implements CacheablePredicate<Member> {
+
+    /**
+     * Returns this query with every event index replaced by the event it refers to in the filtered event list of
+     * {@code model}.
+     *
+     * @throws CommandException if an event index is not in the filtered event list.
+     */
+    public abstract Query bind(Model model) throws CommandException;
+
+    /**
+     * Returns the members that an index of {@code model} gives as candidates for this query, if there is an index for
+     * it. Every member that passes this query is a candidate, but not every candidate need pass it.
+     */
+    public Optional<IndexLookup> findCandidates(Model model) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns an upper bound on the number of candidates {@link #findCandidates(Model)} gives for this query, found
+     * from the sizes of the indexes of {@code model} without looking up any members. It is present exactly when
+     * there is an index for this query.
+     */
+    public OptionalInt estimateCandidates(Model model) {
+        return OptionalInt.empty();
+    }
+
+    /**
+     * Returns true if this query must be put in parentheses when it is part of {@code AND} or {@code NOT}.
+     */
+    boolean needsParentheses() {
+        return false;
+    }
+
+    /**
+     * Returns this query as it is written, putting it in parentheses if it is part of a larger query and
+     * {@link #needsParentheses()}.
+     */
+    String toNestedString() {
+        return needsParentheses() ? "(" + this + ")" : toString();
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.logic.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.module.member.Member;
+
+/**
+ * How the members that pass a query are found.
+ *
+ * The plan takes the candidates from the index that is estimated to give the fewest members for the query, or every
+ * member if the query has no index, and keeps the candidates that pass the whole query. The indexes are the name and
+ * position indexes of the address book and the participants of events. Only the chosen index is looked up, and not
+ * until the plan is executed or shown.
+ */
+public class QueryPlan {
+    private final Query query;
+    private final Model model;
+    /** The candidates from the chosen index, or empty if every member is a candidate. */
+    private Optional<IndexLookup> lookup = Optional.empty();
+    /** Whether {@code lookup} has been found, which is only done once the plan is executed or shown. */
+    private boolean isLookupComputed;
+    private boolean isExecuted;
+
+    private QueryPlan(Query query, Model model) {
+        this.query = query;
+        this.model = model;
+    }
+
+    /**
+     * Returns the plan for {@code query}, which must be bound to {@code model}.
+     */
+    public static QueryPlan of(Query query, Model model) {
+        requireAllNonNull(query, model);
+        return new QueryPlan(query, model);
+    }
+
+    /**
+     * Returns true if the plan uses an index rather than testing every member.
+     */
+    public boolean usesIndex() {
+        return query.estimateCandidates(model).isPresent();
+    }
+
+    /**
+     * Returns true if the plan has been executed.
+     */
+    public boolean isExecuted() {
+        return isExecuted;
+    }
+
+    /**
+     * Returns the members that pass the query.
+     */
+    public List<Member> execute() {
+        isExecuted = true;
+        Collection<Member> candidates = getLookup().map(IndexLookup::getMembers)
+                .orElseGet(() -> model.getAddressBook().getMemberList());
+        return candidates.stream().filter(query).collect(Collectors.toList());
+    }
+
+    private Optional<IndexLookup> getLookup() {
+        if (!isLookupComputed) {
+            lookup = query.findCandidates(model);
+            isLookupComputed = true;
+        }
+        return lookup;
+    }
+
+    @Override
+    public String toString() {
+        String source = getLookup().map(IndexLookup::toString)
+                .orElseGet(() -> "scan of all members (" + model.getAddressBook().getMemberList().size()
+                        + " members)");
+        return "Candidates: " + source + "\nFilter: " + query;
+    }
+}
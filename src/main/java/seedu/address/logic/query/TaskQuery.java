@@ -0,0 +1,56 @@
+package seedu.address.logic.query;
+
+import seedu.address.model.Model;
+import seedu.address.model.module.member.Member;
+import seedu.address.model.module.task.Task;
+
+/**
+ * Tests that a member has a task that is done, written as {@code task:done}, or a task that is not done yet, written
+ * as {@code task:undone}.
+ */
+public class TaskQuery extends Query {
+    public static final String PREFIX = "task:";
+    public static final String STATUS_DONE = "done";
+    public static final String STATUS_UNDONE = "undone";
+
+    private final boolean isDone;
+
+    /**
+     * Creates a query for the members who have a task whose status is {@code isDone}.
+     */
+    public TaskQuery(boolean isDone) {
+        this.isDone = isDone;
+    }
+
+    @Override
+    public Query bind(Model model) {
+        return this;
+    }
+
+    @Override
+    public boolean test(Member member) {
+        for (Task task : member.getTaskList()) {
+            if (task.isDone() == isDone) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TaskQuery // instanceof handles nulls
+                && isDone == ((TaskQuery) other).isDone); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Boolean.hashCode(isDone);
+    }
+
+    @Override
+    public String toString() {
+        return PREFIX + (isDone ? STATUS_DONE : STATUS_UNDONE);
+    }
+}
@@ -2,15 +2,24 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.ToIntFunction;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.module.Name;
 import seedu.address.model.module.event.Event;
 import seedu.address.model.module.event.UniqueEventList;
 import seedu.address.model.module.member.Member;
 import seedu.address.model.module.member.UniqueMemberList;
+import seedu.address.model.module.member.position.Position;
 
 /**
  * Wraps all data at the address-book level
@@ -21,6 +30,35 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueMemberList members;
     private final UniqueEventList events;
 
+    /** Advances whenever the data of the address book changes. */
+    private long version;
+
+    private final List<RecordListener> recordListeners = new CopyOnWriteArrayList<>();
+
+    /** The copy made by {@link #detachedCopyOf(ReadOnlyAddressBook)} of each member that has not changed since. */
+    private Map<Member, Member> detachedMembers = new IdentityHashMap<>();
+
+    /**
+     * Listens for changes to the members and events of an address book, so that anything derived from a single member
+     * or event can be kept until that member or event changes.
+     */
+    public interface RecordListener {
+        /**
+         * Called when {@code member} is added, changed in place, replaced or removed, or replaces another member.
+         */
+        void memberChanged(Member member);
+
+        /**
+         * Called when {@code event} is added, changed in place, replaced or removed.
+         */
+        void eventChanged(Event event);
+
+        /**
+         * Called when any member or event may have changed, such as when the whole list is replaced.
+         */
+        void allChanged();
+    }
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -30,7 +68,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         members = new UniqueMemberList();
-        events = new UniqueEventList();
+        events = new UniqueEventList(members.getDirectory());
     }
 
     public AddressBook() {}
@@ -43,6 +81,47 @@ public class AddressBook implements ReadOnlyAddressBook {
         resetData(toBeCopied);
     }
 
+    /**
+     * Returns a copy of {@code toBeCopied} that shares no mutable state with it, so that the copy can be read on
+     * another thread while {@code toBeCopied} keeps changing.
+     * Unlike {@link #AddressBook(ReadOnlyAddressBook)}, members are copied too, since their task lists can change.
+     * Copies are never changed, so an {@code AddressBook} hands out the same copy of a member until the member is
+     * reported changed, as by {@link #markModified(Member)}.
+     */
+    public static AddressBook detachedCopyOf(ReadOnlyAddressBook toBeCopied) {
+        requireNonNull(toBeCopied);
+        AddressBook source = toBeCopied instanceof AddressBook ? (AddressBook) toBeCopied : null;
+        Map<Member, Member> copied = source == null ? Collections.emptyMap() : source.detachedMembers;
+        Map<Member, Member> memberCopies = new IdentityHashMap<>();
+        AddressBook copy = new AddressBook();
+        for (Member member : toBeCopied.getMemberList()) {
+            // A copy is never changed, so the copy of a member that has not changed since it was copied can be reused.
+            Member memberCopy = copied.get(member);
+            if (memberCopy == null) {
+                memberCopy = new Member(member.getName(), member.getPhone(), member.getEmail().orElse(null),
+                        member.getAddress().orElse(null), member.getPositions(), member.getTaskList());
+            }
+            memberCopies.put(member, memberCopy);
+            copy.addMember(memberCopy, toBeCopied.getMemberId(member));
+        }
+        copy.setEvents(toBeCopied.getEventList());
+        if (source != null) {
+            source.detachedMembers = memberCopies;
+        }
+        return copy;
+    }
+
+    /**
+     * Registers {@code listener} to be told about changes to the members and events of this address book.
+     */
+    public void addRecordListener(RecordListener listener) {
+        recordListeners.add(requireNonNull(listener));
+    }
+
+    public void removeRecordListener(RecordListener listener) {
+        recordListeners.remove(listener);
+    }
+
     //// list overwrite operations
 
     /**
@@ -53,6 +132,22 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setMembers(List<Member> members) {
         this.members.setMembers(members);
+        version++;
+        notifyAllChanged();
+    }
+
+    /**
+     * Replaces the contents of the member list with {@code members}, giving each member the id returned by
+     * {@code ids}.
+     * {@code members} must not contain duplicate members or duplicate ids.
+     *
+     * @param members is the member list
+     * @param ids gives the id of each member
+     */
+    public void setMembers(List<Member> members, ToIntFunction<Member> ids) {
+        this.members.setMembers(members, ids);
+        version++;
+        notifyAllChanged();
     }
 
     /**
@@ -63,18 +158,42 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setEvents(List<Event> events) {
         this.events.setEvents(events);
+        version++;
+        notifyAllChanged();
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * Members keep the ids they have in {@code newData}.
      *
      * @param newData is the new data to be reset with
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setMembers(newData.getMemberList());
+        events.setEvents(Collections.emptyList());
+        members.setMembers(newData.getMemberList(), newData::getMemberId);
         setEvents(newData.getEventList());
+        version++;
+        notifyAllChanged();
+    }
+
+    /**
+     * Starts gathering the changes to the member and event lists, so that the listeners of the lists are told about
+     * them all at once when the matching {@link #endBatch()} is called. Lookups work as usual in between.
+     */
+    public void beginBatch() {
+        members.beginBatch();
+        events.beginBatch();
+    }
+
+    /**
+     * Tells the listeners of the member and event lists about the changes gathered since the matching
+     * {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        members.endBatch();
+        events.endBatch();
     }
 
     //// member-level operations
@@ -90,6 +209,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         return members.contains(member);
     }
 
+    /**
+     * Returns the member in the address book with the given {@code name}, if any.
+     *
+     * @param name is the name of the member
+     * @return the member with that name
+     */
+    public Optional<Member> getMember(Name name) {
+        return members.get(name);
+    }
+
     /**
      * Returns true if an event with the same identity as {@code event} exists in the address book.
      *
@@ -109,6 +238,31 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addMember(Member p) {
         members.add(p);
+        version++;
+        notifyMemberChanged(p);
+    }
+
+    /**
+     * Adds a member with the given {@code id} to the address book.
+     * The member must not already exist in the address book, and the id must not belong to another member.
+     *
+     * @param p is the member to be added
+     * @param id is the id of the member
+     */
+    public void addMember(Member p, int id) {
+        members.add(p, id);
+        version++;
+        notifyMemberChanged(p);
+    }
+
+    /**
+     * Returns true if {@code id} is the id of a member in the address book.
+     *
+     * @param id is the id to check for
+     * @return boolean
+     */
+    public boolean hasMemberId(int id) {
+        return members.hasId(id);
     }
 
     /**
@@ -119,6 +273,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addEvent(Event e) {
         events.add(e);
+        version++;
+        events.get(e.getName(), e.getDate()).ifPresent(this::notifyEventChanged);
     }
 
     /**
@@ -130,6 +286,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addEventMembers(Event target, Set<Member> memberSet) {
         events.addMembers(target, memberSet);
+        version++;
+        events.get(target.getName(), target.getDate()).ifPresent(this::notifyEventChanged);
     }
 
     /**
@@ -144,13 +302,10 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedMember);
 
         members.setMember(target, editedMember);
-        for (Event event : events) {
-            Set<Member> memberSet = event.getParticipants();
-            if (memberSet.contains(target)) {
-                event.removeParticipant(target);
-                event.addParticipant(editedMember);
-            }
-        }
+        version++;
+        notifyMemberChanged(target);
+        notifyMemberChanged(editedMember);
+        events.getEventsOf(editedMember).forEach(this::notifyEventChanged);
     }
 
     /**
@@ -164,7 +319,10 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setEvent(Event target, Event editedEvent) {
         requireNonNull(editedEvent);
 
+        Optional<Event> replaced = events.get(target.getName(), target.getDate());
         events.setEvent(target, editedEvent);
+        version++;
+        replaced.ifPresent(this::notifyEventChanged);
     }
 
     /**
@@ -174,13 +332,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @param key is the member to be removed
      */
     public void removeMember(Member key) {
+        Optional<Member> removed = members.get(key.getName());
+        List<Event> changedEvents = events.getEventsOf(key);
         members.remove(key);
-        for (Event event : events) {
-            Set<Member> memberSet = event.getParticipants();
-            if (memberSet.contains(key)) {
-                event.removeParticipant(key);
-            }
-        }
+        events.removeParticipant(key);
+        version++;
+        removed.ifPresent(this::notifyMemberChanged);
+        changedEvents.forEach(this::notifyEventChanged);
     }
 
     /**
@@ -190,7 +348,158 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @param key is the event to be removed
      */
     public void removeEvent(Event key) {
+        Optional<Event> removed = events.get(key.getName(), key.getDate());
         events.remove(key);
+        version++;
+        removed.ifPresent(this::notifyEventChanged);
+    }
+
+    /**
+     * Records a change to the data of the address book that was not made through its own methods.
+     * Prefer {@link #markModified(Member)} when the change is to a single member.
+     */
+    public void markModified() {
+        version++;
+        notifyAllChanged();
+    }
+
+    /**
+     * Records a change made in place to {@code member}, such as a change to its task list.
+     *
+     * @param member is the member that was changed
+     */
+    public void markModified(Member member) {
+        requireNonNull(member);
+        version++;
+        notifyMemberChanged(member);
+    }
+
+    private void notifyMemberChanged(Member member) {
+        detachedMembers.remove(member);
+        recordListeners.forEach(listener -> listener.memberChanged(member));
+    }
+
+    private void notifyEventChanged(Event event) {
+        recordListeners.forEach(listener -> listener.eventChanged(event));
+    }
+
+    private void notifyAllChanged() {
+        detachedMembers.clear();
+        recordListeners.forEach(RecordListener::allChanged);
+    }
+
+    /**
+     * Returns a number that advances whenever the data of the address book changes, so that other parts of the app
+     * can tell whether anything derived from the data is out of date by comparing versions.
+     * Changes made directly to members or events in the address book are only counted once {@link #markModified()}
+     * is called.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the events that {@code member} participates in, in the order of the event list.
+     *
+     * @param member is the participant to look for
+     * @return an unmodifiable list of events
+     */
+    public List<Event> getEventsOf(Member member) {
+        requireNonNull(member);
+        return events.getEventsOf(member);
+    }
+
+    /**
+     * Returns the events that take place from {@code start} to {@code end}, both inclusive, ordered by date.
+     *
+     * @param start is the earliest date of the events
+     * @param end is the latest date of the events
+     * @return an unmodifiable list of events
+     */
+    public List<Event> getEventsBetween(LocalDate start, LocalDate end) {
+        return events.getEventsBetween(start, end);
+    }
+
+    /**
+     * Returns the latest event that takes place on or before {@code date}, if any.
+     *
+     * @param date is the latest date of the event
+     * @return the event found
+     */
+    public Optional<Event> getEventOnOrBefore(LocalDate date) {
+        return events.getEventOnOrBefore(date);
+    }
+
+    /**
+     * Returns the earliest event that takes place on or after {@code date}, if any.
+     *
+     * @param date is the earliest date of the event
+     * @return the event found
+     */
+    public Optional<Event> getEventOnOrAfter(LocalDate date) {
+        return events.getEventOnOrAfter(date);
+    }
+
+    /**
+     * Returns at most {@code limit} of the earliest events that take place on or after {@code from}.
+     *
+     * @param from is the earliest date of the events
+     * @param limit is the maximum number of events to return
+     * @return an unmodifiable list of events
+     */
+    public List<Event> getUpcomingEvents(LocalDate from, int limit) {
+        return events.getUpcomingEvents(from, limit);
+    }
+
+    /**
+     * Returns the members that hold every position in at least one of the given {@code clauses}.
+     *
+     * @param clauses are the alternative sets of positions a member can hold
+     * @return an unmodifiable list of members
+     */
+    public List<Member> getMembersWithPositions(List<Set<Position>> clauses) {
+        return members.getMembersWithPositions(clauses);
+    }
+
+    /**
+     * Returns the members whose name has a word that contains any of the {@code keywords}, ignoring case.
+     *
+     * @param keywords are single words to look for
+     * @return an unmodifiable set of members, compared by identity
+     */
+    public Set<Member> findMembersByName(List<String> keywords) {
+        return members.findByName(keywords);
+    }
+
+    /**
+     * Returns an upper bound on the number of members {@link #findMembersByName(List)} returns for {@code keywords},
+     * without checking the name of any member.
+     *
+     * @param keywords are single words to look for
+     * @return the number of members that may match
+     */
+    public int estimateMembersByName(List<String> keywords) {
+        return members.estimateFindByName(keywords);
+    }
+
+    /**
+     * Returns the number of members that hold {@code position}.
+     *
+     * @param position is the position to count the holders of
+     * @return the number of members
+     */
+    public int countMembersWithPosition(Position position) {
+        return members.countMembersWithPosition(position);
+    }
+
+    /**
+     * Returns the events whose name has a word that contains any of the {@code keywords}, ignoring case.
+     *
+     * @param keywords are single words to look for
+     * @return an unmodifiable set of events, compared by identity
+     */
+    public Set<Event> findEventsByName(List<String> keywords) {
+        return events.findByName(keywords);
     }
 
     //// util methods
@@ -212,6 +521,12 @@ public class AddressBook implements ReadOnlyAddressBook {
         return events.asUnmodifiableObservableList();
     }
 
+    @Override
+    public int getMemberId(Member member) {
+        requireNonNull(member);
+        return members.getId(member);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
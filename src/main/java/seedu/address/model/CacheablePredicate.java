@@ -0,0 +1,20 @@
+package seedu.address.model;
+
+import java.util.function.Predicate;
+
+/**
+ * A filter whose results can be cached by the model and reused for any equal filter.
+ *
+ * Implementations must be compared by value with {@code equals} and {@code hashCode}, and must only test the fields
+ * of a member itself unless {@link #dependsOnEvents()} is true.
+ */
+public interface CacheablePredicate<T> extends Predicate<T> {
+
+    /**
+     * Returns true if whether a member passes this filter depends on the events of the address book, so that its
+     * results must be dropped whenever an event changes.
+     */
+    default boolean dependsOnEvents() {
+        return false;
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.module.event.Event;
+import seedu.address.model.module.member.Member;
+
+/**
+ * A bounded cache of the members that pass recently used member filters, keyed by the filter predicates.
+ *
+ * Predicates are compared with {@code equals}, so a filter built again from the same arguments finds the results of
+ * the earlier one. The cache listens to the address book and keeps the results up to date one member at a time: a
+ * member that is added, changed or removed is tested again against every cached filter, so results outlive changes to
+ * other members. Adding, changing or removing an event only drops the results of the filters that depend on events,
+ * and a change to the whole address book drops every result. When the cache is full, the least recently used results
+ * are dropped.
+ */
+class FilterResultCache implements AddressBook.RecordListener {
+
+    private final AddressBook addressBook;
+    private final Map<CacheablePredicate<Member>, Set<Member>> results;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Creates an empty cache for the members of {@code addressBook} that holds the results of at most
+     * {@code capacity} predicates. The cache must be added as a record listener of {@code addressBook}.
+     */
+    FilterResultCache(AddressBook addressBook, int capacity) {
+        requireNonNull(addressBook);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive: " + capacity);
+        }
+        this.addressBook = addressBook;
+        results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheablePredicate<Member>, Set<Member>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the members that pass {@code predicate}, or null if they are not cached.
+     */
+    Set<Member> get(CacheablePredicate<Member> predicate) {
+        requireNonNull(predicate);
+        Set<Member> matches = results.get(predicate);
+        if (matches == null) {
+            missCount++;
+        } else {
+            hitCount++;
+        }
+        return matches;
+    }
+
+    /**
+     * Caches {@code matches} as the members of the address book that pass {@code predicate}. The cache keeps
+     * {@code matches} up to date from then on.
+     */
+    void put(CacheablePredicate<Member> predicate, Set<Member> matches) {
+        requireAllNonNull(predicate, matches);
+        results.put(predicate, matches);
+    }
+
+    int size() {
+        return results.size();
+    }
+
+    /** Returns the number of lookups that found cached results. */
+    long getHitCount() {
+        return hitCount;
+    }
+
+    /** Returns the number of lookups that did not find cached results. */
+    long getMissCount() {
+        return missCount;
+    }
+
+    @Override
+    public void memberChanged(Member member) {
+        boolean isInAddressBook = addressBook.getMember(member.getName()).orElse(null) == member;
+        results.forEach((predicate, matches) -> {
+            if (isInAddressBook && predicate.test(member)) {
+                matches.add(member);
+            } else {
+                matches.remove(member);
+            }
+        });
+    }
+
+    @Override
+    public void eventChanged(Event event) {
+        results.keySet().removeIf(CacheablePredicate::dependsOnEvents);
+    }
+
+    @Override
+    public void allChanged() {
+        results.clear();
+    }
+}
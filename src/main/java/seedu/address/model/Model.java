@@ -1,13 +1,19 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.module.event.Event;
 import seedu.address.model.module.member.Member;
+import seedu.address.model.module.member.position.Position;
 import seedu.address.model.module.task.Task;
 
 /**
@@ -61,6 +67,42 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Returns a number that advances whenever the address book data changes.
+     * Comparing versions is a cheap way to tell whether the data changed in between.
+     */
+    long getVersion();
+
+    /**
+     * Starts a transaction, in which any number of changes can be made to the address book before they are either
+     * kept by {@link #commitTransaction()} or undone by {@link #rollbackTransaction()}.
+     * Until then, the filtered lists are only brought up to date when they are read or their filter is updated, so
+     * that listeners are told about many changes at once.
+     *
+     * @throws IllegalStateException if a transaction has already begun.
+     */
+    void beginTransaction();
+
+    /**
+     * Keeps the changes made since {@link #beginTransaction()}, and brings the filtered lists up to date.
+     *
+     * @throws IllegalStateException if no transaction has begun.
+     */
+    void commitTransaction();
+
+    /**
+     * Undoes the changes made to the address book since {@link #beginTransaction()}, and restores the filters of the
+     * filtered lists. The version still advances, since the data may differ from what was seen during the transaction.
+     *
+     * @throws IllegalStateException if no transaction has begun.
+     */
+    void rollbackTransaction();
+
+    /**
+     * Returns true if a transaction has begun and has not been committed or rolled back yet.
+     */
+    boolean isInTransaction();
+
     /**
      * Returns true if a member with the same identity as {@code member} exists in the address book.
      */
@@ -71,6 +113,58 @@ public interface Model {
      */
     boolean hasEvent(Event event);
 
+    /**
+     * Returns the events that {@code member} participates in, in the order of the event list.
+     */
+    List<Event> getEventsOf(Member member);
+
+    /**
+     * Returns the events that take place from {@code start} to {@code end}, both inclusive, ordered by date.
+     */
+    List<Event> getEventsBetween(LocalDate start, LocalDate end);
+
+    /**
+     * Returns the latest event that takes place on or before {@code date}, if any.
+     */
+    Optional<Event> getEventOnOrBefore(LocalDate date);
+
+    /**
+     * Returns the earliest event that takes place on or after {@code date}, if any.
+     */
+    Optional<Event> getEventOnOrAfter(LocalDate date);
+
+    /**
+     * Returns at most {@code limit} of the earliest events that take place on or after {@code from}, ordered by date.
+     */
+    List<Event> getUpcomingEvents(LocalDate from, int limit);
+
+    /**
+     * Returns the members that hold every position in at least one of the given {@code clauses}.
+     */
+    List<Member> getMembersWithPositions(List<Set<Position>> clauses);
+
+    /**
+     * Returns the members whose name has a word that contains any of the {@code keywords}, ignoring case.
+     * The members are compared by identity.
+     */
+    Set<Member> findMembersByName(List<String> keywords);
+
+    /**
+     * Returns an upper bound on the number of members {@link #findMembersByName(List)} returns for {@code keywords},
+     * without checking the name of any member.
+     */
+    int estimateMembersByName(List<String> keywords);
+
+    /**
+     * Returns the number of members that hold {@code position}.
+     */
+    int countMembersWithPosition(Position position);
+
+    /**
+     * Returns the events whose name has a word that contains any of the {@code keywords}, ignoring case.
+     * The events are compared by identity.
+     */
+    Set<Event> findEventsByName(List<String> keywords);
 
     /**
      * Deletes the given member.
@@ -87,12 +181,14 @@ public interface Model {
     /**
      * Adds the given member.
      * {@code member} must not already exist in the address book.
+     * The filter of the filtered member list is kept, so the member is only shown in it if it passes the filter.
      */
     void addMember(Member member);
 
     /**
      * Adds the given event.
      * {@code event} must not already exist in the address book.
+     * The filter of the filtered event list is kept, so the event is only shown in it if it passes the filter.
      */
     void addEvent(Event event);
 
@@ -128,6 +224,15 @@ public interface Model {
      */
     void updateFilteredMemberList(Predicate<Member> predicate);
 
+    /**
+     * Updates the filter of the filtered member list to filter by the given {@code predicate}, where {@code search}
+     * returns the members that pass it, for example by using an index of the address book. The recent results of a
+     * {@link CacheablePredicate} are cached, so {@code search} is not called if an equal predicate was used recently.
+     * Any other predicate is only tested against the members, and {@code search} is not called.
+     * @throws NullPointerException if {@code predicate} or {@code search} is null.
+     */
+    void updateFilteredMemberList(Predicate<Member> predicate, Supplier<? extends Collection<Member>> search);
+
     /**
      * Updates the filter of the filtered event list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -4,8 +4,15 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -14,13 +21,30 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.module.event.Event;
 import seedu.address.model.module.member.Member;
+import seedu.address.model.module.member.position.Position;
 import seedu.address.model.module.task.Task;
 import seedu.address.model.module.task.TaskList;
 
 /**
  * Represents the in-memory model of the address book data.
+ *
+ * The filtered lists keep their filter when members and events are added, changed or removed, until it is updated by
+ * a command. A {@link FilteredList} only tests the members or events that changed against its filter, so a change
+ * costs the same however long the list is.
+ *
+ * During a transaction, the changes to the member and event lists are gathered by the address book instead of being
+ * passed on to the filtered lists one at a time. The filtered lists are brought up to date when the transaction ends,
+ * or earlier if they are read or their filter is updated.
+ *
+ * The members that pass recently used member filters are cached, so that showing the same filter again, such as
+ * repeating a {@code find}, does not search the address book again. Only filters that are compared by value, the
+ * {@link CacheablePredicate}s, are cached. The cache listens to the address book and keeps each result up to date as
+ * members change, so a change to one member does not drop the results of every filter.
  */
 public class ModelManager implements Model {
+    /** The number of member filters whose results are cached. */
+    public static final int FILTER_CACHE_CAPACITY = 16;
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final AddressBook addressBook;
@@ -29,6 +53,12 @@ public class ModelManager implements Model {
     private final FilteredList<Event> filteredEvents;
     private TaskList taskListManager;
     private final FilteredList<Task> filteredTasks;
+    private final FilterResultCache memberFilterResults;
+
+    /** The address book as it was when the current transaction began, or null if there is no transaction. */
+    private AddressBook transactionStart;
+    private Predicate<? super Member> memberPredicateAtStart;
+    private Predicate<? super Event> eventPredicateAtStart;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -40,6 +70,8 @@ public class ModelManager implements Model {
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
+        memberFilterResults = new FilterResultCache(this.addressBook, FILTER_CACHE_CAPACITY);
+        this.addressBook.addRecordListener(memberFilterResults);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredMembers = new FilteredList<>(this.addressBook.getMemberList());
         filteredEvents = new FilteredList<>(this.addressBook.getEventList());
@@ -98,6 +130,60 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getVersion() {
+        return addressBook.getVersion();
+    }
+
+    @Override
+    public void beginTransaction() {
+        if (transactionStart != null) {
+            throw new IllegalStateException("A transaction has already begun");
+        }
+        transactionStart = AddressBook.detachedCopyOf(addressBook);
+        memberPredicateAtStart = filteredMembers.getPredicate();
+        eventPredicateAtStart = filteredEvents.getPredicate();
+        addressBook.beginBatch();
+    }
+
+    @Override
+    public void commitTransaction() {
+        requireTransaction();
+        transactionStart = null;
+        addressBook.endBatch();
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        requireTransaction();
+        addressBook.resetData(AddressBook.detachedCopyOf(transactionStart));
+        transactionStart = null;
+        addressBook.endBatch();
+        filteredMembers.setPredicate(memberPredicateAtStart);
+        filteredEvents.setPredicate(eventPredicateAtStart);
+    }
+
+    @Override
+    public boolean isInTransaction() {
+        return transactionStart != null;
+    }
+
+    private void requireTransaction() {
+        if (transactionStart == null) {
+            throw new IllegalStateException("No transaction has begun");
+        }
+    }
+
+    /**
+     * Passes the changes gathered so far in the current transaction on to the filtered lists.
+     */
+    private void bringFilteredListsUpToDate() {
+        if (transactionStart != null) {
+            addressBook.endBatch();
+            addressBook.beginBatch();
+        }
+    }
+
     @Override
     public boolean hasMember(Member member) {
         requireNonNull(member);
@@ -110,6 +196,66 @@ public class ModelManager implements Model {
         return addressBook.hasEvent(event);
     }
 
+    @Override
+    public List<Event> getEventsOf(Member member) {
+        requireNonNull(member);
+        return addressBook.getEventsOf(member);
+    }
+
+    @Override
+    public List<Event> getEventsBetween(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        return addressBook.getEventsBetween(start, end);
+    }
+
+    @Override
+    public Optional<Event> getEventOnOrBefore(LocalDate date) {
+        requireNonNull(date);
+        return addressBook.getEventOnOrBefore(date);
+    }
+
+    @Override
+    public Optional<Event> getEventOnOrAfter(LocalDate date) {
+        requireNonNull(date);
+        return addressBook.getEventOnOrAfter(date);
+    }
+
+    @Override
+    public List<Event> getUpcomingEvents(LocalDate from, int limit) {
+        requireNonNull(from);
+        return addressBook.getUpcomingEvents(from, limit);
+    }
+
+    @Override
+    public List<Member> getMembersWithPositions(List<Set<Position>> clauses) {
+        requireAllNonNull(clauses);
+        return addressBook.getMembersWithPositions(clauses);
+    }
+
+    @Override
+    public Set<Member> findMembersByName(List<String> keywords) {
+        requireAllNonNull(keywords);
+        return addressBook.findMembersByName(keywords);
+    }
+
+    @Override
+    public int estimateMembersByName(List<String> keywords) {
+        requireAllNonNull(keywords);
+        return addressBook.estimateMembersByName(keywords);
+    }
+
+    @Override
+    public int countMembersWithPosition(Position position) {
+        requireNonNull(position);
+        return addressBook.countMembersWithPosition(position);
+    }
+
+    @Override
+    public Set<Event> findEventsByName(List<String> keywords) {
+        requireAllNonNull(keywords);
+        return addressBook.findEventsByName(keywords);
+    }
+
     @Override
     public void deleteMember(Member target) {
         addressBook.removeMember(target);
@@ -123,19 +269,16 @@ public class ModelManager implements Model {
     @Override
     public void addMember(Member member) {
         addressBook.addMember(member);
-        updateFilteredMemberList(PREDICATE_SHOW_ALL_MEMBERS);
     }
 
     @Override
     public void addEvent(Event event) {
         addressBook.addEvent(event);
-        updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
     }
 
     @Override
     public void addEventMembers(Event event, Set<Member> memberSet) {
         addressBook.addEventMembers(event, memberSet);
-        updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
     }
 
     @Override
@@ -160,6 +303,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Member> getFilteredMemberList() {
+        bringFilteredListsUpToDate();
         return filteredMembers;
     }
 
@@ -169,13 +313,68 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Event> getFilteredEventList() {
+        bringFilteredListsUpToDate();
         return filteredEvents;
     }
 
     @Override
     public void updateFilteredMemberList(Predicate<Member> predicate) {
         requireNonNull(predicate);
-        filteredMembers.setPredicate(predicate);
+        bringFilteredListsUpToDate();
+        if (!(predicate instanceof CacheablePredicate)) {
+            filteredMembers.setPredicate(predicate);
+            return;
+        }
+
+        CacheablePredicate<Member> cacheablePredicate = (CacheablePredicate<Member>) predicate;
+        Set<Member> matches = memberFilterResults.get(cacheablePredicate);
+        if (matches == null) {
+            // the filtered list tests every member anyway, so its contents are the results to cache
+            filteredMembers.setPredicate(predicate);
+            matches = Collections.newSetFromMap(new IdentityHashMap<>());
+            matches.addAll(filteredMembers);
+            memberFilterResults.put(cacheablePredicate, matches);
+            return;
+        }
+        setCachedMemberPredicate(predicate, matches);
+    }
+
+    @Override
+    public void updateFilteredMemberList(Predicate<Member> predicate, Supplier<? extends Collection<Member>> search) {
+        requireAllNonNull(predicate, search);
+        bringFilteredListsUpToDate();
+        if (!(predicate instanceof CacheablePredicate)) {
+            filteredMembers.setPredicate(predicate);
+            return;
+        }
+
+        CacheablePredicate<Member> cacheablePredicate = (CacheablePredicate<Member>) predicate;
+        Set<Member> matches = memberFilterResults.get(cacheablePredicate);
+        if (matches == null) {
+            matches = Collections.newSetFromMap(new IdentityHashMap<>());
+            matches.addAll(search.get());
+            memberFilterResults.put(cacheablePredicate, matches);
+        }
+        setCachedMemberPredicate(predicate, matches);
+    }
+
+    /**
+     * Refilters the filtered member list by looking up {@code matches}, the members that pass {@code predicate}.
+     */
+    private void setCachedMemberPredicate(Predicate<Member> predicate, Set<Member> matches) {
+        CachedResultPredicate<Member> cachedPredicate = new CachedResultPredicate<>(predicate, matches);
+        filteredMembers.setPredicate(cachedPredicate);
+        cachedPredicate.dropResults();
+    }
+
+    /** Returns the number of member filter updates that used cached results. */
+    long getFilterCacheHitCount() {
+        return memberFilterResults.getHitCount();
+    }
+
+    /** Returns the number of member filter updates that had to search for their results. */
+    long getFilterCacheMissCount() {
+        return memberFilterResults.getMissCount();
     }
 
     //=========== TaskListManager ============================================================================
@@ -210,6 +409,7 @@ public class ModelManager implements Model {
     public void addTask(Member member, Task task) {
         loadTaskList(member);
         taskListManager.add(task);
+        addressBook.markModified(member);
     }
 
     /**
@@ -220,6 +420,7 @@ public class ModelManager implements Model {
     public void deleteTask(Member member, Task task) {
         loadTaskList(member);
         taskListManager.remove(task);
+        addressBook.markModified(member);
     }
 
     /**
@@ -230,6 +431,7 @@ public class ModelManager implements Model {
     public void deleteTask(Member member, int index) {
         loadTaskList(member);
         taskListManager.remove(index);
+        addressBook.markModified(member);
     }
 
     /**
@@ -241,6 +443,7 @@ public class ModelManager implements Model {
     public void setTask(Member member, Task target, Task editedTask) {
         loadTaskList(member);
         taskListManager.setTask(target, editedTask);
+        addressBook.markModified(member);
     }
 
     /**
@@ -250,6 +453,7 @@ public class ModelManager implements Model {
     public void setTask(Member member, int index, Task editedTask) {
         loadTaskList(member);
         taskListManager.setTask(index, editedTask);
+        addressBook.markModified(member);
     }
 
     /**
@@ -276,6 +480,7 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredEventList(Predicate<Event> predicate) {
         requireNonNull(predicate);
+        bringFilteredListsUpToDate();
         filteredEvents.setPredicate(predicate);
     }
 
@@ -299,4 +504,27 @@ public class ModelManager implements Model {
                 && filteredEvents.equals(other.filteredEvents);
     }
 
+    /**
+     * A filter that looks up cached results while the filtered list is refiltered, then tests later changes against
+     * the predicate the results came from.
+     */
+    private static class CachedResultPredicate<T> implements Predicate<T> {
+        private final Predicate<? super T> predicate;
+        private Set<T> results;
+
+        CachedResultPredicate(Predicate<? super T> predicate, Set<T> results) {
+            this.predicate = predicate;
+            this.results = results;
+        }
+
+        void dropResults() {
+            results = null;
+        }
+
+        @Override
+        public boolean test(T item) {
+            return results == null ? predicate.test(item) : results.contains(item);
+        }
+    }
+
 }
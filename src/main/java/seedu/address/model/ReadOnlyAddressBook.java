@@ -25,4 +25,13 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Event> getEventList();
 
+    /**
+     * Returns the stable id of {@code member}, which must be in the members list.
+     * Ids are unique within the members list and do not change when a member is edited.
+     *
+     * @param member is the member to look up
+     * @return the id of the member
+     */
+    int getMemberId(Member member);
+
 }
@@ -0,0 +1,111 @@
+package seedu.address.model.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list whose changes can be gathered into a batch, so that listeners are told about all the
+ * changes of the batch in a single notification when the batch ends instead of once per change.
+ *
+ * Outside a batch the list behaves like {@code FXCollections.observableArrayList()}. Batches can be nested, and the
+ * notification is only sent when the outermost batch ends.
+ */
+public class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+    private int batchDepth;
+
+    /**
+     * Starts gathering changes, until the matching call to {@link #endBatch()}.
+     */
+    public void beginBatch() {
+        batchDepth++;
+        beginChange();
+    }
+
+    /**
+     * Ends the batch started by the matching call to {@link #beginBatch()}. If it is the outermost batch, listeners
+     * are told about every change made during the batch.
+     */
+    public void endBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("No batch to end");
+        }
+        batchDepth--;
+        endChange();
+    }
+
+    public boolean isInBatch() {
+        return batchDepth > 0;
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+
+    /**
+     * Replaces the contents of the list with {@code replacement} in a single change, without removing the old
+     * elements one at a time.
+     */
+    @Override
+    public boolean setAll(Collection<? extends E> replacement) {
+        requireNonNull(replacement);
+        List<E> added = new ArrayList<>(replacement); // copied first, as it may be a view of this list
+        beginChange();
+        try {
+            removeAllElements();
+            elements.addAll(added);
+            modCount++;
+            nextAdd(0, elements.size());
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        beginChange();
+        try {
+            removeAllElements();
+        } finally {
+            endChange();
+        }
+    }
+
+    private void removeAllElements() {
+        if (elements.isEmpty()) {
+            return;
+        }
+        List<E> removed = new ArrayList<>(elements);
+        elements.clear();
+        modCount++;
+        nextRemove(0, removed);
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model.module;
+
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Matches names against a list of keywords, giving the same result as
+ * {@link StringUtil#containsWordIgnoreCase(String, String)} on each keyword in turn.
+ *
+ * The keywords are trimmed and lower cased once when the matcher is built, and names are matched against their cached
+ * lower case words, so matching a name does not allocate.
+ */
+public class KeywordMatcher {
+
+    private final List<String> keywords;
+
+    /** The prepared form of each keyword, or null if the keyword is not a single word. */
+    private final String[] foldedKeywords;
+
+    /**
+     * Compiles a matcher for {@code keywords}.
+     * A keyword that is not a single word is only rejected when it is reached while matching, as
+     * {@link StringUtil#containsWordIgnoreCase(String, String)} would.
+     */
+    public KeywordMatcher(List<String> keywords) {
+        this.keywords = keywords;
+        foldedKeywords = new String[keywords.size()];
+        for (int i = 0; i < foldedKeywords.length; i++) {
+            foldedKeywords[i] = prepare(keywords.get(i));
+        }
+    }
+
+    /**
+     * Returns true if a word of {@code name} contains any of the keywords, ignoring case.
+     *
+     * @throws IllegalArgumentException if a keyword that has to be tried is not a single word.
+     */
+    public boolean matchesAny(Name name) {
+        for (int i = 0; i < foldedKeywords.length; i++) {
+            String foldedKeyword = foldedKeywords[i];
+            if (foldedKeyword == null) {
+                // Fails with the same exception as the original check.
+                StringUtil.containsWordIgnoreCase(name.fullName, keywords.get(i));
+            }
+            if (name.hasWordContaining(foldedKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String prepare(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        String preppedKeyword = keyword.trim();
+        if (preppedKeyword.isEmpty() || preppedKeyword.split("\\s+").length != 1) {
+            return null;
+        }
+        return preppedKeyword.toLowerCase();
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.module;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+
 /**
  * Represents a Data's name in the Ailurus.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,6 +22,12 @@ public class Name {
 
     public final String fullName;
 
+    /** The name in lower case, which is what keywords are matched against. */
+    private final String foldedName;
+
+    /** The start and end offsets of each word in the name, one pair after another. */
+    private final int[] wordBounds;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,6 +37,8 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        foldedName = name.toLowerCase();
+        wordBounds = findWordBounds(foldedName);
     }
 
     /**
@@ -38,6 +48,22 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if a word of the name contains {@code foldedKeyword}, which must already be in lower case.
+     * Matches the name in place, without allocating.
+     */
+    public boolean hasWordContaining(String foldedKeyword) {
+        int length = foldedKeyword.length();
+        for (int i = 0; i < wordBounds.length; i += 2) {
+            int lastStart = wordBounds[i + 1] - length;
+            for (int start = wordBounds[i]; start <= lastStart; start++) {
+                if (foldedName.regionMatches(start, foldedKeyword, 0, length)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
 
     @Override
     public String toString() {
@@ -56,4 +82,20 @@ public class Name {
         return fullName.hashCode();
     }
 
+    private static int[] findWordBounds(String name) {
+        int[] bounds = new int[name.length() + 1];
+        int count = 0;
+        for (int i = 0; i < name.length(); i++) {
+            boolean isSpace = name.charAt(i) == ' ';
+            boolean isInWord = count % 2 == 1;
+            if (isSpace == isInWord) {
+                bounds[count++] = i;
+            }
+        }
+        if (count % 2 == 1) {
+            bounds[count++] = name.length();
+        }
+        return Arrays.copyOf(bounds, count);
+    }
+
 }
@@ -1,24 +1,32 @@
 package seedu.address.model.module;
 
 import java.util.List;
-import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.model.CacheablePredicate;
 
 /**
  * Tests that a {@code Module}'s {@code Name} matches any of the keywords given.
+ * The keywords are compiled into a {@link KeywordMatcher} once, so testing a module does not allocate.
  */
-public class NameContainsKeywordsPredicate<T extends Module> implements Predicate<T> {
+public class NameContainsKeywordsPredicate<T extends Module> implements CacheablePredicate<T> {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
+    /**
+     * Creates a predicate that matches names against {@code keywords}.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(T module) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(module.getName().fullName, keyword));
+        return matcher.matchesAny(module.getName());
     }
 
     @Override
@@ -28,4 +36,9 @@ public class NameContainsKeywordsPredicate<T extends Module> implements Predicat
                 && keywords.equals(((NameContainsKeywordsPredicate<?>) other).keywords)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
 }
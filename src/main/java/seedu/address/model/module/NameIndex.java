@@ -0,0 +1,163 @@
+package seedu.address.model.module;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A search index over the names of a collection of items, which finds the items whose name matches a keyword in the
+ * same way as {@link NameContainsKeywordsPredicate}: some word of the name contains the keyword, ignoring case.
+ *
+ * Names can only contain alphanumeric characters and spaces, so a keyword without spaces is contained in a word of a
+ * name exactly when it is contained in the whole name. The index keeps the name of each item, and a map from
+ * every substring of up to three characters of the words in the names (its grams) to the items with that gram. A
+ * keyword of up to three characters is itself a gram, so its items are found directly. A longer keyword is only checked
+ * against the items holding its rarest trigram.
+ *
+ * Items are compared by identity.
+ */
+public class NameIndex<T> {
+
+    private static final int MAX_GRAM_LENGTH = 3;
+
+    private final Map<T, Name> names = new IdentityHashMap<>();
+    private final Map<String, Set<T>> itemsByGram = new HashMap<>();
+
+    /**
+     * Adds {@code item} to the index under {@code name}.
+     * The item must not already be in the index.
+     */
+    public void add(T item, Name name) {
+        requireAllNonNull(item, name);
+        checkArgument(names.put(item, name) == null, "Item is already indexed");
+        for (String gram : gramsOf(name.fullName.toLowerCase())) {
+            itemsByGram.computeIfAbsent(gram, unused -> newIdentitySet()).add(item);
+        }
+    }
+
+    /**
+     * Removes {@code item} from the index, if it is in the index.
+     */
+    public void remove(T item) {
+        requireNonNull(item);
+        Name name = names.remove(item);
+        if (name == null) {
+            return;
+        }
+        for (String gram : gramsOf(name.fullName.toLowerCase())) {
+            Set<T> items = itemsByGram.get(gram);
+            items.remove(item);
+            if (items.isEmpty()) {
+                itemsByGram.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Removes every item from the index.
+     */
+    public void clear() {
+        names.clear();
+        itemsByGram.clear();
+    }
+
+    /**
+     * Returns the items whose name has a word that contains any of the {@code keywords}, ignoring case.
+     *
+     * @param keywords are single words to look for
+     * @return an unmodifiable set of items, compared by identity
+     */
+    public Set<T> find(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        Set<T> matches = newIdentitySet();
+        for (String keyword : keywords) {
+            String foldedKeyword = prepareKeyword(keyword);
+            if (foldedKeyword.length() <= MAX_GRAM_LENGTH) {
+                matches.addAll(itemsByGram.getOrDefault(foldedKeyword, Collections.emptySet()));
+                continue;
+            }
+            for (T candidate : rarestTrigramItems(foldedKeyword)) {
+                if (names.get(candidate).hasWordContaining(foldedKeyword)) {
+                    matches.add(candidate);
+                }
+            }
+        }
+        return Collections.unmodifiableSet(matches);
+    }
+
+    /**
+     * Returns an upper bound on the number of items {@link #find(Collection)} returns for {@code keywords}, found from
+     * the number of items holding each gram without checking any names.
+     *
+     * @param keywords are single words to look for
+     * @return the number of items that may match
+     */
+    public int estimate(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        int estimate = 0;
+        for (String keyword : keywords) {
+            String foldedKeyword = prepareKeyword(keyword);
+            Set<T> candidates = foldedKeyword.length() <= MAX_GRAM_LENGTH
+                    ? itemsByGram.getOrDefault(foldedKeyword, Collections.emptySet())
+                    : rarestTrigramItems(foldedKeyword);
+            estimate += candidates.size();
+        }
+        return Math.min(estimate, names.size());
+    }
+
+    /**
+     * Returns the items holding the rarest trigram of {@code foldedKeyword}, which are the only items that can contain
+     * the keyword.
+     */
+    private Set<T> rarestTrigramItems(String foldedKeyword) {
+        Set<T> rarest = null;
+        for (int i = 0; i + MAX_GRAM_LENGTH <= foldedKeyword.length(); i++) {
+            Set<T> items = itemsByGram.get(foldedKeyword.substring(i, i + MAX_GRAM_LENGTH));
+            if (items == null) {
+                return Collections.emptySet();
+            }
+            if (rarest == null || items.size() < rarest.size()) {
+                rarest = items;
+            }
+        }
+        return rarest;
+    }
+
+    /**
+     * Trims and lower cases {@code keyword}, which must be a single word.
+     */
+    private static String prepareKeyword(String keyword) {
+        String preppedKeyword = keyword.trim();
+        checkArgument(!preppedKeyword.isEmpty(), "Word parameter cannot be empty");
+        checkArgument(preppedKeyword.split("\\s+").length == 1, "Word parameter should be a single word");
+        return preppedKeyword.toLowerCase();
+    }
+
+    /**
+     * Returns the grams of the words in {@code foldedName}.
+     */
+    private static Set<String> gramsOf(String foldedName) {
+        Set<String> grams = new HashSet<>();
+        for (String word : foldedName.split(" ")) {
+            for (int start = 0; start < word.length(); start++) {
+                int maxEnd = Math.min(word.length(), start + MAX_GRAM_LENGTH);
+                for (int end = start + 1; end <= maxEnd; end++) {
+                    grams.add(word.substring(start, end));
+                }
+            }
+        }
+        return grams;
+    }
+
+    private static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -2,19 +2,27 @@ package seedu.address.model.module.event;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import seedu.address.model.module.Module;
 import seedu.address.model.module.Name;
 import seedu.address.model.module.member.Member;
+import seedu.address.model.module.member.MemberDirectory;
 
 /**
  * Represents an Event in the Ailurus.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * Participants are kept by member identity, which is the {@code Name} of a member, as in {@link Member#isSameType}.
+ * Checking whether a member participates in or has attended the event therefore matches any {@code Member} with the
+ * same name as a participant, such as an edited version of it.
  */
 public class Event extends Module {
     /**
@@ -23,9 +31,19 @@ public class Event extends Module {
     private final EventDate date;
 
     /**
-     * Data field is a hashmap of members and booleans that represent their attendance.
+     * Data fields are bitsets over the ids of the participants, marking who participates and who has attended.
+     * Attended members are always participants. The ids belong to {@code directory}, which is the directory of the
+     * member list once the event is in a list. An event that is not in a list only gets a directory of its own when
+     * its first participant is added, and until then {@code directory} is null.
      */
-    private final Map<Member, Boolean> participants = new HashMap<>();
+    private final BitSet participating = new BitSet();
+    private final BitSet attended = new BitSet();
+    private MemberDirectory directory;
+
+    /**
+     * The list this event belongs to, which is told about every change to the participants, or null if none.
+     */
+    private UniqueEventList owner;
 
     /**
      * Creates a {@code Event} with the given {@code EventName} for name and {@code EventDate}
@@ -48,7 +66,7 @@ public class Event extends Module {
         requireAllNonNull(date);
         this.date = date;
         for (Member m : participants) {
-            this.participants.put(m, false);
+            participating.set(directory().retain(m));
         }
     }
 
@@ -61,15 +79,26 @@ public class Event extends Module {
         super(name);
         requireAllNonNull(date);
         this.date = date;
-        this.participants.putAll(participants);
+        for (Map.Entry<Member, Boolean> entry : participants.entrySet()) {
+            int id = directory().retain(entry.getKey());
+            participating.set(id);
+            attended.set(id, entry.getValue());
+        }
     }
 
     public EventDate getDate() {
         return date;
     }
 
+    /**
+     * Get the participants of the event together with their attendance.
+     *
+     * @return a new map from each participant to whether they have attended
+     */
     public Map<Member, Boolean> getMap() {
-        return participants;
+        Map<Member, Boolean> map = new HashMap<>();
+        participating.stream().forEach(id -> map.put(directory.get(id), attended.get(id)));
+        return map;
     }
 
     /**
@@ -79,7 +108,105 @@ public class Event extends Module {
      * if modification is attempted
      */
     public Set<Member> getParticipants() {
-        return Collections.unmodifiableSet(participants.keySet());
+        Set<Member> members = new HashSet<>();
+        participating.stream().forEach(id -> members.add(directory.get(id)));
+        return Collections.unmodifiableSet(members);
+    }
+
+    /**
+     * Get the ids of the participants of the event.
+     *
+     * @return the ids of the participants in the directory of the event, in increasing order
+     */
+    public IntStream getParticipantIds() {
+        return participating.stream();
+    }
+
+    /**
+     * Get the number of participants of the event.
+     *
+     * @return the number of participants
+     */
+    public int getParticipantCount() {
+        return participating.cardinality();
+    }
+
+    /**
+     * Get the number of participants who have attended the event.
+     *
+     * @return the number of participants marked as present
+     */
+    public int getAttendedCount() {
+        return attended.cardinality();
+    }
+
+    /**
+     * Get the number of participants who have not attended the event.
+     *
+     * @return the number of participants not marked as present
+     */
+    public int getAbsentCount() {
+        return getParticipantCount() - getAttendedCount();
+    }
+
+    UniqueEventList getOwner() {
+        return owner;
+    }
+
+    void setOwner(UniqueEventList owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * Moves the participants of this event to {@code target}, so that they are referred to by their ids in it.
+     *
+     * @param target is the directory the participants should belong to
+     */
+    void moveTo(MemberDirectory target) {
+        if (target == directory) {
+            return;
+        }
+        if (directory == null) {
+            directory = target;
+            return;
+        }
+        BitSet movedParticipating = new BitSet();
+        BitSet movedAttended = new BitSet();
+        for (int id = participating.nextSetBit(0); id >= 0; id = participating.nextSetBit(id + 1)) {
+            int movedId = target.retain(directory.get(id));
+            movedParticipating.set(movedId);
+            movedAttended.set(movedId, attended.get(id));
+            directory.release(id);
+        }
+        participating.clear();
+        participating.or(movedParticipating);
+        attended.clear();
+        attended.or(movedAttended);
+        directory = target;
+    }
+
+    /**
+     * Replaces the participant with id {@code from} by the participant with id {@code to}, keeping the attendance.
+     *
+     * @param from is the id to be replaced
+     * @param to is the id replacing
+     */
+    void moveParticipant(int from, int to) {
+        if (!participating.get(from)) {
+            return;
+        }
+        if (!participating.get(to)) {
+            participating.set(to);
+            directory.retain(to);
+            notifyAdded(to);
+        }
+        if (attended.get(from)) {
+            attended.set(to);
+        }
+        participating.clear(from);
+        attended.clear(from);
+        directory.release(from);
+        notifyRemoved(from);
     }
 
     /**
@@ -89,7 +216,7 @@ public class Event extends Module {
      */
     public void removeParticipants(Set<Member> members) {
         for (Member m : members) {
-            participants.remove(m);
+            removeParticipant(m);
         }
     }
 
@@ -99,7 +226,14 @@ public class Event extends Module {
      * @param member to be removed
      */
     public void removeParticipant(Member member) {
-        participants.remove(member);
+        int id = idOf(member);
+        if (!isParticipant(id)) {
+            return;
+        }
+        participating.clear(id);
+        attended.clear(id);
+        directory.release(id);
+        notifyRemoved(id);
     }
 
     /**
@@ -109,7 +243,7 @@ public class Event extends Module {
      */
     public void addParticipants(Set<Member> members) {
         for (Member m : members) {
-            participants.put(m, false);
+            addParticipant(m);
         }
     }
 
@@ -119,27 +253,35 @@ public class Event extends Module {
      * @param member to be added
      */
     public void addParticipant(Member member) {
-        participants.put(member, false);
+        int id = idOf(member);
+        if (isParticipant(id)) {
+            attended.clear(id);
+            return;
+        }
+        id = directory().retain(member);
+        participating.set(id);
+        notifyAdded(id);
     }
 
     /**
-     * Checks if a member is part of the event.
+     * Checks if a member is part of the event, by its name.
      *
      * @param member to check
-     * @return boolean indicating if member is included
+     * @return boolean indicating if a member with the same name is included
      */
     public boolean isParticipatingInEvent(Member member) {
-        return participants.containsKey(member);
+        return isParticipant(idOf(member));
     }
 
     /**
-     * Checks if a member has attended in this event.
+     * Checks if a member has attended in this event, by its name.
      *
      * @param member to check
-     * @return boolean indicating whether the member has attended the event
+     * @return boolean indicating whether a member with the same name has attended the event
      */
     public boolean hasAttended(Member member) {
-        return participants.get(member);
+        int id = idOf(member);
+        return id >= 0 && attended.get(id);
     }
 
     /**
@@ -148,18 +290,16 @@ public class Event extends Module {
      * @param members to be marked as present
      */
     public void markAttendance(Set<Member> members) {
-        for (Member m : members) {
-            participants.replace(m, true);
-        }
+        BitSet present = idsOf(members);
+        present.and(participating);
+        attended.or(present);
     }
 
     /**
      * Marks everyone as present for attendance.
      */
     public void markAttendanceForAll() {
-        for (Member m : participants.keySet()) {
-            participants.replace(m, true);
-        }
+        attended.or(participating);
     }
 
     /**
@@ -168,9 +308,7 @@ public class Event extends Module {
      * @param members to be marked as absent
      */
     public void markAbsent(Set<Member> members) {
-        for (Member m : members) {
-            participants.replace(m, false);
-        }
+        attended.andNot(idsOf(members));
     }
 
     /**
@@ -219,7 +357,7 @@ public class Event extends Module {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(getName(), date, participants);
+        return Objects.hash(getName(), date, getParticipants());
     }
 
     /**
@@ -231,4 +369,45 @@ public class Event extends Module {
     public String toString() {
         return String.format("%s; Date: %s", getName(), date);
     }
+
+    /**
+     * Returns the directory of the participants, giving the event a directory of its own if it has none yet.
+     */
+    private MemberDirectory directory() {
+        if (directory == null) {
+            directory = new MemberDirectory();
+        }
+        return directory;
+    }
+
+    private int idOf(Member member) {
+        return directory == null ? MemberDirectory.NO_ID : directory.idOf(member.getName());
+    }
+
+    private boolean isParticipant(int id) {
+        return id >= 0 && participating.get(id);
+    }
+
+    private BitSet idsOf(Set<Member> members) {
+        BitSet ids = new BitSet();
+        for (Member m : members) {
+            int id = idOf(m);
+            if (id >= 0) {
+                ids.set(id);
+            }
+        }
+        return ids;
+    }
+
+    private void notifyAdded(int id) {
+        if (owner != null) {
+            owner.participantAdded(this, id);
+        }
+    }
+
+    private void notifyRemoved(int id) {
+        if (owner != null) {
+            owner.participantRemoved(this, id);
+        }
+    }
 }
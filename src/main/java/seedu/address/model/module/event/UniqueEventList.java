@@ -1,18 +1,35 @@
 package seedu.address.model.module.event;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.module.BatchedObservableList;
 import seedu.address.model.module.Module;
+import seedu.address.model.module.Name;
+import seedu.address.model.module.NameIndex;
 import seedu.address.model.module.event.exceptions.DuplicateEventException;
 import seedu.address.model.module.event.exceptions.EventNotFoundException;
 import seedu.address.model.module.member.Member;
+import seedu.address.model.module.member.MemberDirectory;
 
 /**
  * A list of events that enforces uniqueness between its elements and does not allow nulls.
@@ -21,15 +38,51 @@ import seedu.address.model.module.member.Member;
  * unique in terms of identity in the UniqueEventList. However, the removal of a event uses Event#equals(Object) so
  * as to ensure that the event with exactly the same fields will be removed.
  *
+ * The list keeps an index from the identity of each event (its name and date) to the event, and a map from each
+ * event object to its position in the list, so that events can be found without comparing participant sets.
+ * It also keeps a reverse index from each participant to the events they take part in, which the events in the
+ * list keep up to date whenever participants are added or removed. An event can only belong to one list at a time,
+ * so an event that already belongs to another list is copied when it is added.
+ *
+ * Events are also indexed by date, so that the events in a range of dates can be found without scanning the list,
+ * and by name with a {@link NameIndex} for keyword searches.
+ *
+ * Events in the list refer to their participants by the ids of the list's {@link MemberDirectory}, which is shared
+ * with the member list of the same address book, so replacing a member with an edited version does not change any
+ * event.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Event#isSameType(Module)
  */
 public class UniqueEventList implements Iterable<Event> {
 
-    private final ObservableList<Event> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Event> internalList = new BatchedObservableList<>();
     private final ObservableList<Event> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<EventKey, Event> identityIndex = new HashMap<>();
+    private final Map<Event, Integer> positions = new IdentityHashMap<>();
+    private final Map<Integer, Set<Event>> eventsByParticipant = new HashMap<>();
+    private final NavigableMap<LocalDate, List<Event>> eventsByDate = new TreeMap<>();
+    private final NameIndex<Event> nameSearchIndex = new NameIndex<>();
+    private final MemberDirectory directory;
+
+    /**
+     * Creates an empty list whose events have their own directory of participants.
+     */
+    public UniqueEventList() {
+        this(new MemberDirectory());
+    }
+
+    /**
+     * Creates an empty list whose events refer to their participants by the ids in {@code directory}.
+     *
+     * @param directory is the directory of participants
+     */
+    public UniqueEventList(MemberDirectory directory) {
+        this.directory = requireNonNull(directory);
+        directory.setListener(this::participantMoved);
+    }
 
     /**
      * Confirm if the list contains an event
@@ -39,7 +92,121 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public boolean contains(Event toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameType);
+        return identityIndex.containsKey(EventKey.of(toCheck));
+    }
+
+    /**
+     * Returns the event in the list with the given {@code name} and {@code date}, if any.
+     *
+     * @param name is the name of the event
+     * @param date is the date of the event
+     * @return the event with the given identity
+     */
+    public Optional<Event> get(Name name, EventDate date) {
+        requireAllNonNull(name, date);
+        return Optional.ofNullable(identityIndex.get(new EventKey(name, date)));
+    }
+
+    /**
+     * Returns the events in the list that {@code member} participates in, in list order.
+     *
+     * @param member is the participant to look for
+     * @return an unmodifiable list of the events of the member
+     */
+    public List<Event> getEventsOf(Member member) {
+        requireNonNull(member);
+        Set<Event> found = eventsByParticipant.get(directory.idOf(member.getName()));
+        if (found == null) {
+            return Collections.emptyList();
+        }
+        List<Event> result = new ArrayList<>(found);
+        result.sort(Comparator.comparing(positions::get));
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Returns the events in the list that take place from {@code start} to {@code end}, both inclusive,
+     * ordered by date.
+     *
+     * @param start is the earliest date of the events
+     * @param end is the latest date of the events
+     * @return an unmodifiable list of events
+     */
+    public List<Event> getEventsBetween(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        if (start.isAfter(end)) {
+            return Collections.emptyList();
+        }
+        List<Event> result = new ArrayList<>();
+        eventsByDate.subMap(start, true, end, true).values().forEach(result::addAll);
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Returns the first of the latest events in the list that take place on or before {@code date}, if any.
+     *
+     * @param date is the latest date of the event
+     * @return the event found
+     */
+    public Optional<Event> getEventOnOrBefore(LocalDate date) {
+        requireNonNull(date);
+        return Optional.ofNullable(eventsByDate.floorEntry(date)).map(entry -> entry.getValue().get(0));
+    }
+
+    /**
+     * Returns the first of the earliest events in the list that take place on or after {@code date}, if any.
+     *
+     * @param date is the earliest date of the event
+     * @return the event found
+     */
+    public Optional<Event> getEventOnOrAfter(LocalDate date) {
+        requireNonNull(date);
+        return Optional.ofNullable(eventsByDate.ceilingEntry(date)).map(entry -> entry.getValue().get(0));
+    }
+
+    /**
+     * Returns at most {@code limit} of the earliest events in the list that take place on or after {@code from},
+     * ordered by date.
+     *
+     * @param from is the earliest date of the events
+     * @param limit is the maximum number of events to return
+     * @return an unmodifiable list of events
+     */
+    public List<Event> getUpcomingEvents(LocalDate from, int limit) {
+        requireNonNull(from);
+        checkArgument(limit >= 0, "Limit should not be negative");
+        List<Event> result = new ArrayList<>();
+        for (List<Event> eventsOnDate : eventsByDate.tailMap(from, true).values()) {
+            for (Event event : eventsOnDate) {
+                if (result.size() == limit) {
+                    return Collections.unmodifiableList(result);
+                }
+                result.add(event);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Returns the events in the list whose name has a word that contains any of the {@code keywords}, ignoring case.
+     *
+     * @param keywords are single words to look for
+     * @return an unmodifiable set of events, compared by identity
+     */
+    public Set<Event> findByName(Collection<String> keywords) {
+        return nameSearchIndex.find(keywords);
+    }
+
+    /**
+     * Removes {@code member} from every event in the list that they participate in.
+     *
+     * @param member is the participant to be removed
+     */
+    public void removeParticipant(Member member) {
+        requireNonNull(member);
+        for (Event event : getEventsOf(member)) {
+            event.removeParticipant(member);
+        }
     }
 
     /**
@@ -53,7 +220,11 @@ public class UniqueEventList implements Iterable<Event> {
         if (contains(toAdd)) {
             throw new DuplicateEventException();
         }
-        internalList.add(toAdd);
+        Event attached = attach(toAdd);
+        positions.put(attached, internalList.size());
+        identityIndex.put(EventKey.of(attached), attached);
+        index(attached);
+        internalList.add(attached);
     }
 
     /**
@@ -65,11 +236,11 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void addMembers(Event toModify, Set<Member> members) {
         requireAllNonNull(toModify, members);
-        int index = internalList.indexOf(toModify);
-        if (index == -1) {
+        Event existing = find(toModify);
+        if (existing == null) {
             throw new EventNotFoundException();
         }
-        internalList.get(index).addParticipants(members);
+        existing.addParticipants(members);
     }
 
     /**
@@ -83,8 +254,8 @@ public class UniqueEventList implements Iterable<Event> {
     public void setEvent(Event target, Event editedEvent) {
         requireAllNonNull(target, editedEvent);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Event existing = find(target);
+        if (existing == null) {
             throw new EventNotFoundException();
         }
 
@@ -92,7 +263,15 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
 
-        internalList.set(index, editedEvent);
+        int index = positions.remove(existing);
+        identityIndex.remove(EventKey.of(existing));
+        unindex(existing);
+        detach(existing);
+        Event attached = attach(editedEvent);
+        positions.put(attached, index);
+        identityIndex.put(EventKey.of(attached), attached);
+        index(attached);
+        internalList.set(index, attached);
     }
 
     /**
@@ -103,9 +282,19 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void remove(Event toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Event existing = find(toRemove);
+        if (existing == null) {
             throw new EventNotFoundException();
         }
+
+        int index = positions.remove(existing);
+        identityIndex.remove(EventKey.of(existing));
+        unindex(existing);
+        detach(existing);
+        internalList.remove(index);
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
     }
 
     /**
@@ -115,7 +304,7 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void setEvents(UniqueEventList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setEvents(replacement.internalList);
     }
 
     /**
@@ -126,11 +315,40 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void setEvents(List<Event> events) {
         requireAllNonNull(events);
-        if (!eventsAreUnique(events)) {
-            throw new DuplicateEventException();
+        indexByIdentity(events);
+
+        internalList.forEach(this::detach);
+        List<Event> attachedEvents = new ArrayList<>(events.size());
+        for (Event event : events) {
+            attachedEvents.add(attach(event));
+        }
+
+        internalList.setAll(attachedEvents);
+        identityIndex.clear();
+        positions.clear();
+        eventsByDate.clear();
+        nameSearchIndex.clear();
+        for (int i = 0; i < attachedEvents.size(); i++) {
+            Event event = attachedEvents.get(i);
+            identityIndex.put(EventKey.of(event), event);
+            positions.put(event, i);
+            index(event);
         }
+    }
 
-        internalList.setAll(events);
+    /**
+     * Starts gathering the changes to the list, so that its listeners are told about them all at once when the
+     * matching {@link #endBatch()} is called.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Tells the listeners of the list about the changes gathered since the matching {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
     }
 
     /**
@@ -160,18 +378,143 @@ public class UniqueEventList implements Iterable<Event> {
     }
 
     /**
-     * Returns true if {@code events} contains only unique events.
+     * Returns the event in the list that is equal to {@code event}, or null if there is none.
+     * The event object itself is checked first so that participant sets are only compared for a different instance.
      *
-     * @return boolean representing if the events in the list are all unique
+     * @param event is the event to look for
+     * @return the event in the list
      */
-    private boolean eventsAreUnique(List<Event> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).isSameType(events.get(j))) {
-                    return false;
-                }
+    private Event find(Event event) {
+        if (positions.containsKey(event)) {
+            return event;
+        }
+        Event existing = identityIndex.get(EventKey.of(event));
+        return event.equals(existing) ? existing : null;
+    }
+
+    /**
+     * Called by an event in the list when the member with the given {@code id} is added to its participants.
+     */
+    void participantAdded(Event event, int id) {
+        eventsByParticipant.computeIfAbsent(id, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                .add(event);
+    }
+
+    /**
+     * Called by an event in the list when the member with the given {@code id} is removed from its participants.
+     */
+    void participantRemoved(Event event, int id) {
+        Set<Event> memberEvents = eventsByParticipant.get(id);
+        if (memberEvents != null && memberEvents.remove(event) && memberEvents.isEmpty()) {
+            eventsByParticipant.remove(id);
+        }
+    }
+
+    /**
+     * Moves every event in the list that has the participant with id {@code from} to the participant with id
+     * {@code to}.
+     */
+    private void participantMoved(int from, int to) {
+        Set<Event> memberEvents = eventsByParticipant.get(from);
+        if (memberEvents == null) {
+            return;
+        }
+        for (Event event : new ArrayList<>(memberEvents)) {
+            event.moveParticipant(from, to);
+        }
+    }
+
+    private void index(Event event) {
+        eventsByDate.computeIfAbsent(event.getDate().eventDate, unused -> new ArrayList<>()).add(event);
+        nameSearchIndex.add(event, event.getName());
+    }
+
+    private void unindex(Event event) {
+        nameSearchIndex.remove(event);
+        LocalDate date = event.getDate().eventDate;
+        List<Event> eventsOnDate = eventsByDate.get(date);
+        eventsOnDate.removeIf(e -> e == event);
+        if (eventsOnDate.isEmpty()) {
+            eventsByDate.remove(date);
+        }
+    }
+
+    /**
+     * Makes {@code event} belong to this list and indexes its participants.
+     * An event that already belongs to another list is copied, and the copy is returned instead.
+     *
+     * @param event is the event to be attached
+     * @return the event that now belongs to this list
+     */
+    private Event attach(Event event) {
+        Event attached = event.getOwner() == null
+                ? event
+                : new Event(event.getName(), event.getDate(), event.getMap());
+        attached.moveTo(directory);
+        attached.setOwner(this);
+        attached.getParticipantIds().forEach(id -> participantAdded(attached, id));
+        return attached;
+    }
+
+    /**
+     * Releases {@code event} from this list and removes its participants from the index.
+     *
+     * @param event is the event to be detached
+     */
+    private void detach(Event event) {
+        event.getParticipantIds().forEach(id -> participantRemoved(event, id));
+        event.setOwner(null);
+        event.moveTo(new MemberDirectory());
+    }
+
+    /**
+     * Returns an index from identity to event over {@code events}, built in a single pass.
+     *
+     * @param events is the list of events to index
+     * @return the identity index of the events
+     * @throws DuplicateEventException listing every event whose identity is the same as an earlier event
+     */
+    private static Map<EventKey, Event> indexByIdentity(List<Event> events) {
+        Map<EventKey, Event> index = new HashMap<>(events.size() * 2);
+        List<Event> duplicates = new ArrayList<>();
+        for (Event event : events) {
+            if (index.putIfAbsent(EventKey.of(event), event) != null) {
+                duplicates.add(event);
             }
         }
-        return true;
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateEventException(duplicates);
+        }
+        return index;
+    }
+
+    /**
+     * The identity of an event, which is its name together with its date.
+     */
+    private static class EventKey {
+        private final Name name;
+        private final EventDate date;
+
+        EventKey(Name name, EventDate date) {
+            this.name = name;
+            this.date = date;
+        }
+
+        static EventKey of(Event event) {
+            return new EventKey(event.getName(), event.getDate());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof EventKey
+                    && name.equals(((EventKey) other).name)
+                    && date.equals(((EventKey) other).date));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, date);
+        }
     }
 }
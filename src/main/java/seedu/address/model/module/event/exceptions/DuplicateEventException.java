@@ -1,11 +1,43 @@
 package seedu.address.model.module.event.exceptions;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.module.event.Event;
+
 /**
  * Signals that the operation will result in duplicate Events (Events are considered duplicates if they have the same
  * identity).
  */
 public class DuplicateEventException extends RuntimeException {
+    private final List<Event> duplicates;
+
+    /**
+     * Constructs a {@code DuplicateEventException} without naming the duplicate events.
+     */
     public DuplicateEventException() {
         super("Operation would result in duplicate events");
+        duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicateEventException} listing every event that repeats an earlier identity.
+     */
+    public DuplicateEventException(List<Event> duplicates) {
+        super("Operation would result in duplicate events: " + requireNonNull(duplicates).stream()
+                .map(Event::getName)
+                .map(Object::toString)
+                .collect(Collectors.joining(", ")));
+        this.duplicates = Collections.unmodifiableList(duplicates);
+    }
+
+    /**
+     * Returns the events that duplicate the identity of an earlier event, in the order they were found.
+     */
+    public List<Event> getDuplicates() {
+        return duplicates;
     }
 }
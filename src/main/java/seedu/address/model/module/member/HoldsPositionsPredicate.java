@@ -0,0 +1,46 @@
+package seedu.address.model.module.member;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.CacheablePredicate;
+import seedu.address.model.module.member.position.Position;
+
+/**
+ * Tests that a {@code Member} holds every position in at least one of the given clauses.
+ */
+public class HoldsPositionsPredicate implements CacheablePredicate<Member> {
+    private final List<Set<Position>> clauses;
+
+    /**
+     * Creates a predicate that matches members holding all the positions of any of {@code clauses}.
+     */
+    public HoldsPositionsPredicate(List<Set<Position>> clauses) {
+        requireAllNonNull(clauses);
+        this.clauses = clauses;
+    }
+
+    public List<Set<Position>> getClauses() {
+        return clauses;
+    }
+
+    @Override
+    public boolean test(Member member) {
+        Set<Position> positions = member.getPositions();
+        return clauses.stream().anyMatch(positions::containsAll);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof HoldsPositionsPredicate // instanceof handles nulls
+                && clauses.equals(((HoldsPositionsPredicate) other).clauses)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return clauses.hashCode();
+    }
+}
@@ -0,0 +1,204 @@
+package seedu.address.model.module.member;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.module.Name;
+
+/**
+ * Assigns stable, compact ids to members and resolves an id to the current version of its member.
+ *
+ * An id stands for a member identity, which is its {@code Name}. Members that are in a {@link UniqueMemberList} are
+ * "listed", and keep their id for as long as they stay in the list, including across edits that replace the
+ * {@code Member} object. Anything else that refers to a member by id, such as an event, "retains" the id, and an id is
+ * only freed for reuse once it is neither listed nor retained. Freed ids are reused lowest first so that ids stay
+ * compact.
+ */
+public class MemberDirectory {
+
+    /** Returned by {@link #idOf(Name)} when there is no id for a name. */
+    public static final int NO_ID = -1;
+
+    private final List<Member> members = new ArrayList<>();
+    private final Map<Name, Integer> ids = new HashMap<>();
+    private final BitSet occupied = new BitSet();
+    private final BitSet listed = new BitSet();
+    private int[] references = new int[0];
+    private IdListener listener = (from, to) -> { };
+
+    /**
+     * Receives notice when the holders of an id have to move to another id.
+     */
+    @FunctionalInterface
+    public interface IdListener {
+        /**
+         * Called when everything that retains {@code from} has to retain {@code to} instead.
+         * {@code from} is freed once it is no longer retained.
+         */
+        void idMoved(int from, int to);
+    }
+
+    public void setListener(IdListener listener) {
+        this.listener = requireNonNull(listener);
+    }
+
+    /**
+     * Returns the id of the member with the given {@code name}, or {@link #NO_ID} if there is none.
+     */
+    public int idOf(Name name) {
+        requireNonNull(name);
+        return ids.getOrDefault(name, NO_ID);
+    }
+
+    /**
+     * Returns the current member with the given {@code id}.
+     */
+    public Member get(int id) {
+        checkArgument(occupied.get(id), "Unknown member id " + id);
+        return members.get(id);
+    }
+
+    /**
+     * Returns true if {@code id} belongs to a listed member.
+     */
+    public boolean isListed(int id) {
+        return id >= 0 && listed.get(id);
+    }
+
+    /**
+     * Retains the id of {@code member}, giving the member an id if it does not have one yet.
+     *
+     * @return the id of the member
+     */
+    public int retain(Member member) {
+        requireNonNull(member);
+        int id = idOf(member.getName());
+        if (id == NO_ID) {
+            id = allocate(member);
+        }
+        references[id]++;
+        return id;
+    }
+
+    /**
+     * Retains {@code id} once more.
+     */
+    public void retain(int id) {
+        checkArgument(occupied.get(id), "Unknown member id " + id);
+        references[id]++;
+    }
+
+    /**
+     * Releases one retention of {@code id}, freeing it if it is no longer used.
+     */
+    public void release(int id) {
+        checkArgument(references[id] > 0, "Member id " + id + " is not retained");
+        references[id]--;
+        freeIfUnused(id);
+    }
+
+    /**
+     * Marks {@code member} as listed, giving the member an id if it does not have one yet.
+     * A member with the same identity must not already be listed.
+     *
+     * @return the id of the member
+     */
+    public int list(Member member) {
+        requireNonNull(member);
+        int id = idOf(member.getName());
+        if (id == NO_ID) {
+            id = allocate(member);
+        }
+        checkArgument(!listed.get(id), "Member is already listed");
+        members.set(id, member);
+        listed.set(id);
+        return id;
+    }
+
+    /**
+     * Marks {@code member} as listed under the given {@code id}.
+     * Unlisted holders of {@code id}, and of any other id {@code member} had before, are moved out of the way.
+     * {@code id} must not belong to a listed member.
+     */
+    public void list(Member member, int id) {
+        requireNonNull(member);
+        checkArgument(id >= 0 && !listed.get(id), "Member id " + id + " is already in use");
+        int previousId = idOf(member.getName());
+        if (previousId != id && occupied.get(id)) {
+            move(id, allocate(members.get(id)));
+        }
+        bind(id, member);
+        listed.set(id);
+        if (previousId != NO_ID && previousId != id) {
+            move(previousId, id);
+        }
+    }
+
+    /**
+     * Replaces the member with the given {@code id} by {@code editedMember}, which keeps the id.
+     * Unlisted holders of the identity of {@code editedMember} are moved to {@code id}.
+     */
+    public void rebind(int id, Member editedMember) {
+        requireNonNull(editedMember);
+        checkArgument(occupied.get(id), "Unknown member id " + id);
+        Name oldName = members.get(id).getName();
+        int previousId = idOf(editedMember.getName());
+        if (!oldName.equals(editedMember.getName())) {
+            ids.remove(oldName);
+        }
+        bind(id, editedMember);
+        if (previousId != NO_ID && previousId != id) {
+            move(previousId, id);
+        }
+    }
+
+    /**
+     * Marks the member with the given {@code id} as no longer listed, freeing the id if it is no longer used.
+     */
+    public void unlist(int id) {
+        listed.clear(id);
+        freeIfUnused(id);
+    }
+
+    private void bind(int id, Member member) {
+        if (id >= members.size()) {
+            members.addAll(Arrays.asList(new Member[id - members.size() + 1]));
+        }
+        if (id >= references.length) {
+            references = Arrays.copyOf(references, Math.max(id + 1, references.length * 2));
+        }
+        occupied.set(id);
+        members.set(id, member);
+        ids.put(member.getName(), id);
+    }
+
+    private int allocate(Member member) {
+        int id = occupied.nextClearBit(0);
+        bind(id, member);
+        return id;
+    }
+
+    private void move(int from, int to) {
+        listener.idMoved(from, to);
+        freeIfUnused(from);
+    }
+
+    private void freeIfUnused(int id) {
+        if (!occupied.get(id) || listed.get(id) || references[id] > 0) {
+            return;
+        }
+        Name name = members.get(id).getName();
+        if (Integer.valueOf(id).equals(ids.get(name))) {
+            ids.remove(name);
+        }
+        members.set(id, null);
+        occupied.clear(id);
+    }
+}
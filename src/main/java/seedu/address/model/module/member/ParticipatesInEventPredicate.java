@@ -0,0 +1,43 @@
+package seedu.address.model.module.member;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.module.event.Event;
+
+/**
+ * Tests that a {@code Member} was one of the participants of an event when the predicate was created.
+ * Predicates are equal if they are for the same event object, which is cheaper to check than comparing events.
+ */
+public class ParticipatesInEventPredicate implements Predicate<Member> {
+    private final Event event;
+    private final Set<Member> participants;
+
+    /**
+     * Creates a predicate that matches the current participants of {@code event}.
+     */
+    public ParticipatesInEventPredicate(Event event) {
+        requireNonNull(event);
+        this.event = event;
+        this.participants = event.getParticipants();
+    }
+
+    @Override
+    public boolean test(Member member) {
+        return participants.contains(member);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ParticipatesInEventPredicate // instanceof handles nulls
+                && event == ((ParticipatesInEventPredicate) other).event); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(event);
+    }
+}
@@ -1,16 +1,32 @@
 package seedu.address.model.module.member;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.ToIntFunction;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.module.BatchedObservableList;
 import seedu.address.model.module.Module;
+import seedu.address.model.module.Name;
+import seedu.address.model.module.NameIndex;
 import seedu.address.model.module.member.exceptions.DuplicateMemberException;
 import seedu.address.model.module.member.exceptions.MemberNotFoundException;
+import seedu.address.model.module.member.position.Position;
 
 /**
  * A list of members that enforces uniqueness between its elements and does not allow nulls.
@@ -19,26 +35,121 @@ import seedu.address.model.module.member.exceptions.MemberNotFoundException;
  * unique in terms of identity in the UniqueMemberList. However, the removal of a member uses Member#equals(Object) so
  * as to ensure that the member with exactly the same fields will be removed.
  *
+ * Since the identity of a member is its {@code Name}, the list also keeps an index from each name to the member
+ * holding it, so that identity checks and lookups by name do not need to scan the list. The position of each member
+ * in the list is kept as well, so that replacing or removing a member does not search the list for it.
+ *
+ * Every member in the list has a stable id from the list's {@link MemberDirectory}, which other parts of the model can
+ * use to refer to the member. A member keeps its id when it is replaced by an edited version of itself.
+ *
+ * The list also keeps an inverted index from each position name to the ids of the members holding that position, so
+ * that members can be looked up by position without testing every member, and a {@link NameIndex} over the names of
+ * the members for keyword searches.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Member#isSameType(Module)
  */
 public class UniqueMemberList implements Iterable<Member> {
 
-    private final ObservableList<Member> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Member> internalList = new BatchedObservableList<>();
     private final ObservableList<Member> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Member> nameIndex = new HashMap<>();
+    private final Map<Member, Integer> listIndexes = new IdentityHashMap<>();
+    private final Map<String, BitSet> positionIndex = new HashMap<>();
+    private final NameIndex<Member> nameSearchIndex = new NameIndex<>();
+    private final MemberDirectory directory = new MemberDirectory();
 
     /**
      * Returns true if the list contains an equivalent member as the given argument.
      */
     public boolean contains(Member toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameType);
+        return nameIndex.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the member in the list with the given {@code name}, if any.
+     */
+    public Optional<Member> get(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(nameIndex.get(name));
+    }
+
+    /**
+     * Returns the id of {@code member} in this list.
+     * The member must exist in the list.
+     */
+    public int getId(Member member) {
+        requireNonNull(member);
+        if (find(member) == null) {
+            throw new MemberNotFoundException();
+        }
+        return directory.idOf(member.getName());
+    }
+
+    /**
+     * Returns true if {@code id} is the id of a member in this list.
+     */
+    public boolean hasId(int id) {
+        return directory.isListed(id);
+    }
+
+    public MemberDirectory getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the members in the list whose name has a word that contains any of the {@code keywords}, ignoring case.
+     *
+     * @param keywords are single words to look for
+     * @return an unmodifiable set of members, compared by identity
+     */
+    public Set<Member> findByName(Collection<String> keywords) {
+        return nameSearchIndex.find(keywords);
+    }
+
+    /**
+     * Returns an upper bound on the number of members {@link #findByName(Collection)} returns for {@code keywords},
+     * without checking the name of any member.
+     *
+     * @param keywords are single words to look for
+     * @return the number of members that may match
+     */
+    public int estimateFindByName(Collection<String> keywords) {
+        return nameSearchIndex.estimate(keywords);
+    }
+
+    /**
+     * Returns the number of members in the list that hold {@code position}.
+     */
+    public int countMembersWithPosition(Position position) {
+        requireNonNull(position);
+        BitSet holders = positionIndex.get(position.positionName);
+        return holders == null ? 0 : holders.cardinality();
     }
 
     /**
-     * Adds a member to the list.
+     * Returns the members in the list that match any of the given {@code clauses}, where a member matches a clause if
+     * it holds every position in the clause. The result is ordered by member id.
+     *
+     * @param clauses are the alternative sets of positions a member can hold
+     * @return an unmodifiable list of members
+     */
+    public List<Member> getMembersWithPositions(Collection<Set<Position>> clauses) {
+        requireAllNonNull(clauses);
+        BitSet matches = new BitSet();
+        for (Set<Position> clause : clauses) {
+            matches.or(idsHoldingAll(clause));
+        }
+        List<Member> result = new ArrayList<>(matches.cardinality());
+        matches.stream().forEach(id -> result.add(directory.get(id)));
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Adds a member to the list, giving the member a new id.
      * The member must not already exist in the list.
      */
     public void add(Member toAdd) {
@@ -46,7 +157,28 @@ public class UniqueMemberList implements Iterable<Member> {
         if (contains(toAdd)) {
             throw new DuplicateMemberException();
         }
+        listIndexes.put(toAdd, internalList.size());
+        internalList.add(toAdd);
+        nameIndex.put(toAdd.getName(), toAdd);
+        indexPositions(directory.list(toAdd), toAdd);
+        nameSearchIndex.add(toAdd, toAdd.getName());
+    }
+
+    /**
+     * Adds a member to the list with the given {@code id}.
+     * The member must not already exist in the list, and the id must not belong to another member in the list.
+     */
+    public void add(Member toAdd, int id) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateMemberException();
+        }
+        directory.list(toAdd, id);
+        listIndexes.put(toAdd, internalList.size());
         internalList.add(toAdd);
+        nameIndex.put(toAdd.getName(), toAdd);
+        indexPositions(id, toAdd);
+        nameSearchIndex.add(toAdd, toAdd.getName());
     }
 
     /**
@@ -57,8 +189,8 @@ public class UniqueMemberList implements Iterable<Member> {
     public void setMember(Member target, Member editedMember) {
         requireAllNonNull(target, editedMember);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Member existing = find(target);
+        if (existing == null) {
             throw new MemberNotFoundException();
         }
 
@@ -66,7 +198,17 @@ public class UniqueMemberList implements Iterable<Member> {
             throw new DuplicateMemberException();
         }
 
+        int id = directory.idOf(existing.getName());
+        int index = listIndexes.remove(existing);
+        listIndexes.put(editedMember, index);
         internalList.set(index, editedMember);
+        nameIndex.remove(existing.getName());
+        nameIndex.put(editedMember.getName(), editedMember);
+        unindexPositions(id, existing);
+        indexPositions(id, editedMember);
+        nameSearchIndex.remove(existing);
+        nameSearchIndex.add(editedMember, editedMember.getName());
+        directory.rebind(id, editedMember);
     }
 
     /**
@@ -75,27 +217,94 @@ public class UniqueMemberList implements Iterable<Member> {
      */
     public void remove(Member toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Member existing = find(toRemove);
+        if (existing == null) {
             throw new MemberNotFoundException();
         }
+        int id = directory.idOf(existing.getName());
+        int index = listIndexes.remove(existing);
+        internalList.remove(index);
+        for (int i = index; i < internalList.size(); i++) {
+            listIndexes.put(internalList.get(i), i);
+        }
+        nameIndex.remove(existing.getName());
+        unindexPositions(id, existing);
+        nameSearchIndex.remove(existing);
+        directory.unlist(id);
     }
 
+    /**
+     * Replaces the contents of this list with the members of {@code replacement}, keeping their ids.
+     */
     public void setMembers(UniqueMemberList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setMembers(replacement.internalList, replacement::getId);
     }
 
     /**
      * Replaces the contents of this list with {@code members}.
+     * Members with the same identity as a member already in the list keep its id, and the rest get new ids.
      * {@code members} must not contain duplicate members.
      */
     public void setMembers(List<Member> members) {
         requireAllNonNull(members);
-        if (!membersAreUnique(members)) {
-            throw new DuplicateMemberException();
+        Map<Name, Member> replacementIndex = indexByName(members);
+
+        for (Member member : internalList) {
+            if (!replacementIndex.containsKey(member.getName())) {
+                directory.unlist(directory.idOf(member.getName()));
+            }
         }
+        for (Member member : members) {
+            int id = directory.idOf(member.getName());
+            if (directory.isListed(id)) {
+                directory.rebind(id, member);
+            } else {
+                directory.list(member);
+            }
+        }
+        internalList.setAll(members);
+        nameIndex.clear();
+        nameIndex.putAll(replacementIndex);
+        reindex();
+    }
 
+    /**
+     * Replaces the contents of this list with {@code members}, giving each member the id returned by {@code ids}.
+     * {@code members} must not contain duplicate members or duplicate ids.
+     */
+    public void setMembers(List<Member> members, ToIntFunction<Member> ids) {
+        requireAllNonNull(members, ids);
+        Map<Name, Member> replacementIndex = indexByName(members);
+        int[] replacementIds = members.stream().mapToInt(ids).toArray();
+        checkArgument(Arrays.stream(replacementIds).distinct().count() == replacementIds.length,
+                "Member ids must be unique");
+
+        for (Member member : internalList) {
+            directory.unlist(directory.idOf(member.getName()));
+        }
+        for (int i = 0; i < replacementIds.length; i++) {
+            directory.list(members.get(i), replacementIds[i]);
+        }
         internalList.setAll(members);
+        nameIndex.clear();
+        nameIndex.putAll(replacementIndex);
+        reindex();
+    }
+
+    /**
+     * Starts gathering the changes to the list, so that its listeners are told about them all at once when the
+     * matching {@link #endBatch()} is called.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Tells the listeners of the list about the changes gathered since the matching {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
     }
 
     /**
@@ -123,16 +332,76 @@ public class UniqueMemberList implements Iterable<Member> {
     }
 
     /**
-     * Returns true if {@code members} contains only unique members.
+     * Returns the member in the list that is equal to {@code member}, or null if there is none.
      */
-    private boolean membersAreUnique(List<Member> members) {
-        for (int i = 0; i < members.size() - 1; i++) {
-            for (int j = i + 1; j < members.size(); j++) {
-                if (members.get(i).isSameType(members.get(j))) {
-                    return false;
-                }
+    private Member find(Member member) {
+        Member existing = nameIndex.get(member.getName());
+        return member.equals(existing) ? existing : null;
+    }
+
+    /**
+     * Returns the ids of the members holding every position in {@code positions}.
+     */
+    private BitSet idsHoldingAll(Set<Position> positions) {
+        BitSet ids = null;
+        for (Position position : positions) {
+            BitSet holders = positionIndex.get(position.positionName);
+            if (holders == null) {
+                return new BitSet();
+            }
+            if (ids == null) {
+                ids = (BitSet) holders.clone();
+            } else {
+                ids.and(holders);
+            }
+        }
+        return ids == null ? new BitSet() : ids;
+    }
+
+    private void indexPositions(int id, Member member) {
+        for (Position position : member.getPositions()) {
+            positionIndex.computeIfAbsent(position.positionName, name -> new BitSet()).set(id);
+        }
+    }
+
+    private void unindexPositions(int id, Member member) {
+        for (Position position : member.getPositions()) {
+            BitSet holders = positionIndex.get(position.positionName);
+            holders.clear(id);
+            if (holders.isEmpty()) {
+                positionIndex.remove(position.positionName);
             }
         }
-        return true;
+    }
+
+    private void reindex() {
+        listIndexes.clear();
+        positionIndex.clear();
+        nameSearchIndex.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            Member member = internalList.get(i);
+            listIndexes.put(member, i);
+            indexPositions(directory.idOf(member.getName()), member);
+            nameSearchIndex.add(member, member.getName());
+        }
+    }
+
+    /**
+     * Returns an index from name to member over {@code members}, built in a single pass.
+     *
+     * @throws DuplicateMemberException listing every member whose identity is the same as an earlier member.
+     */
+    private static Map<Name, Member> indexByName(List<Member> members) {
+        Map<Name, Member> index = new HashMap<>(members.size() * 2);
+        List<Member> duplicates = new ArrayList<>();
+        for (Member member : members) {
+            if (index.putIfAbsent(member.getName(), member) != null) {
+                duplicates.add(member);
+            }
+        }
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateMemberException(duplicates);
+        }
+        return index;
     }
 }
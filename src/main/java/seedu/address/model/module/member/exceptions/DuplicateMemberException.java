@@ -1,11 +1,43 @@
 package seedu.address.model.module.member.exceptions;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.module.member.Member;
+
 /**
  * Signals that the operation will result in duplicate Members (Members are considered duplicates if they have the same
  * identity).
  */
 public class DuplicateMemberException extends RuntimeException {
+    private final List<Member> duplicates;
+
+    /**
+     * Constructs a {@code DuplicateMemberException} without naming the duplicate members.
+     */
     public DuplicateMemberException() {
         super("Operation would result in duplicate members");
+        duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicateMemberException} listing every member that repeats an earlier identity.
+     */
+    public DuplicateMemberException(List<Member> duplicates) {
+        super("Operation would result in duplicate members: " + requireNonNull(duplicates).stream()
+                .map(Member::getName)
+                .map(Object::toString)
+                .collect(Collectors.joining(", ")));
+        this.duplicates = Collections.unmodifiableList(duplicates);
+    }
+
+    /**
+     * Returns the members that duplicate the identity of an earlier member, in the order they were found.
+     */
+    public List<Member> getDuplicates() {
+        return duplicates;
     }
 }
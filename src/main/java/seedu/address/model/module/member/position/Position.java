@@ -3,6 +3,9 @@ package seedu.address.model.module.member.position;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Represents a Position in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidPositionName(String)}
@@ -12,6 +15,8 @@ public class Position {
     public static final String MESSAGE_CONSTRAINTS = "Position names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Map<String, Position> INTERNED = new ConcurrentHashMap<>();
+
     public final String positionName;
 
     /**
@@ -25,6 +30,18 @@ public class Position {
         this.positionName = positionName;
     }
 
+    /**
+     * Returns the shared {@code Position} with the given name, creating it on first use.
+     * Members holding the same position then share one instance instead of each keeping a copy.
+     *
+     * @param positionName A valid position name.
+     */
+    public static Position of(String positionName) {
+        requireNonNull(positionName);
+        checkArgument(isValidPositionName(positionName), MESSAGE_CONSTRAINTS);
+        return INTERNED.computeIfAbsent(positionName, Position::new);
+    }
+
     /**
      * Returns true if a given string is a valid position name.
      */
@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts an address book file between the json format and the binary snapshot format.
+ *
+ * Run with the source file and the target file as arguments. A json source is converted to a binary snapshot, and a
+ * binary snapshot source is converted to json.
+ */
+public class AddressBookConverter {
+
+    private AddressBookConverter() {} // prevents instantiation
+
+    /**
+     * Converts the address book in {@code source} to the other format, writing it to {@code target}.
+     *
+     * @return true if {@code source} was a binary snapshot and {@code target} is json.
+     * @throws DataConversionException if {@code source} is missing or not in either format.
+     */
+    public static boolean convert(Path source, Path target) throws IOException, DataConversionException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        boolean isBinarySource = source.toFile().isFile() && BinarySnapshot.isBinarySnapshot(source);
+        Optional<ReadOnlyAddressBook> addressBook = new BinaryAddressBookStorage(source).readAddressBook();
+        if (!addressBook.isPresent()) {
+            throw new DataConversionException(new IOException(source + " not found"));
+        }
+        AddressBookStorage targetStorage = isBinarySource
+                ? new JsonAddressBookStorage(target)
+                : new BinaryAddressBookStorage(target);
+        targetStorage.saveAddressBook(addressBook.get());
+        return isBinarySource;
+    }
+
+    /**
+     * Converts the file named by the first argument, writing it to the file named by the second argument.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length != 2) {
+            System.err.println("Usage: AddressBookConverter SOURCE_FILE TARGET_FILE");
+            System.exit(1);
+        }
+        boolean isToJson = convert(Paths.get(args[0]), Paths.get(args[1]));
+        System.out.println("Converted " + args[0] + " to " + (isToJson ? "json" : "a binary snapshot")
+                + " in " + args[1]);
+    }
+}
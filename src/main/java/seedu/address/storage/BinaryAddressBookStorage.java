@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.AtomicFileWriter;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk.
+ * See {@link BinarySnapshot} for the layout of the file.
+ *
+ * A json address book file found at the file path is read as json, and is replaced by a binary snapshot on the next
+ * save, so that switching to this storage keeps the existing data.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** The value of {@code UserPrefs#getAddressBookStorageType()} that selects this storage. */
+    public static final String STORAGE_TYPE = "binary";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+    private final AtomicFileWriter fileWriter;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, AtomicFileWriter.DEFAULT);
+    }
+
+    /**
+     * Creates a storage that replaces its file through {@code fileWriter}.
+     */
+    public BinaryAddressBookStorage(Path filePath, AtomicFileWriter fileWriter) {
+        this.filePath = filePath;
+        this.fileWriter = fileWriter;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            if (!BinarySnapshot.isBinarySnapshot(filePath)) {
+                logger.info("Reading " + filePath + " as a json file");
+                return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+            }
+            return Optional.of(BinarySnapshot.read(filePath).toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        fileWriter.write(filePath, channel -> BinarySnapshotWriter.write(addressBook, channel));
+    }
+
+}
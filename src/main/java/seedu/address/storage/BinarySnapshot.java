@@ -0,0 +1,335 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.module.Name;
+import seedu.address.model.module.event.Event;
+import seedu.address.model.module.event.EventDate;
+import seedu.address.model.module.member.Address;
+import seedu.address.model.module.member.Email;
+import seedu.address.model.module.member.Member;
+import seedu.address.model.module.member.Phone;
+import seedu.address.model.module.member.position.Position;
+import seedu.address.model.module.task.Task;
+import seedu.address.model.module.task.TaskList;
+
+/**
+ * Reads an address book saved in the binary snapshot format, decoding each section only when it is first needed.
+ *
+ * The file starts with a header of the magic number, the format version and the offset of the table of contents.
+ * The table of contents at the end of the file lists the id, offset, length and CRC-32 checksum of each section.
+ * <ul>
+ *     <li>The strings section is a dictionary of every distinct string in the file, each saved once with its length
+ *     in bytes. Everything else refers to strings by their index in the dictionary.</li>
+ *     <li>The members section holds the count of members, then for each member its id, name, phone, email and
+ *     address (both as the index plus one, or 0 if absent) and positions.</li>
+ *     <li>The tasks section holds the tasks of each member, in the order of the members section.</li>
+ *     <li>The events section holds the count of events, then for each event its name, date and participants.
+ *     A participant in the member list is saved as a member id, and any other participant in full.</li>
+ * </ul>
+ * Numbers other than those of the header and table of contents are saved as variable-length integers of 7 bits per
+ * byte. Values decoded from the same dictionary string, such as a common address or position, are shared.
+ */
+class BinarySnapshot {
+
+    public static final String MESSAGE_NOT_A_SNAPSHOT = "The file is not a binary address book snapshot.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION =
+            "The file was saved by a newer version of Ailurus (binary format version %d).";
+    public static final String MESSAGE_CORRUPTED_SECTION = "Section %d of the file is damaged.";
+    public static final String MESSAGE_MISSING_SECTION = "Section %d of the file is missing.";
+
+    static final int MAGIC = 0x41494C42; // "AILB"
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int TOC_OFFSET_POSITION = 8;
+
+    static final int STRINGS_SECTION = 1;
+    static final int MEMBERS_SECTION = 2;
+    static final int TASKS_SECTION = 3;
+    static final int EVENTS_SECTION = 4;
+
+    static final int PARTICIPANT_ATTENDED = 1;
+    static final int PARTICIPANT_NOT_LISTED = 2;
+
+    private static final int PHONE_VALUES = 0;
+    private static final int POSITION_VALUES = 1;
+    private static final int EMAIL_VALUES = 2;
+    private static final int ADDRESS_VALUES = 3;
+    private static final int DATE_VALUES = 4;
+    private static final int VALUE_KINDS = 5;
+
+    private final ByteBuffer file;
+    private final Map<Integer, Section> sections = new HashMap<>();
+
+    private int[] stringOffsets;
+    private String[] strings;
+    private Object[][] values;
+
+    private BinarySnapshot(ByteBuffer file) throws IllegalValueException {
+        this.file = file;
+        if (file.limit() < HEADER_SIZE || file.getInt(0) != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+        int version = file.getInt(4);
+        if (version > FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        long tocOffset = file.getLong(TOC_OFFSET_POSITION);
+        if (tocOffset < HEADER_SIZE || tocOffset > file.limit() - 4) {
+            throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+        ByteBuffer toc = file.duplicate();
+        toc.position((int) tocOffset);
+        int sectionCount = toc.getInt();
+        for (int i = 0; i < sectionCount; i++) {
+            if (toc.remaining() < 24) {
+                throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+            }
+            int id = toc.getInt();
+            long offset = toc.getLong();
+            long length = toc.getLong();
+            int checksum = toc.getInt();
+            if (offset < HEADER_SIZE || length < 0 || offset + length > tocOffset) {
+                throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+            }
+            sections.put(id, new Section((int) offset, (int) length, checksum));
+        }
+    }
+
+    /**
+     * Returns true if {@code filePath} starts like a binary snapshot.
+     */
+    static boolean isBinarySnapshot(Path filePath) throws IOException {
+        byte[] magic = new byte[4];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return in.read(magic) == magic.length && ByteBuffer.wrap(magic).getInt() == MAGIC;
+        }
+    }
+
+    /**
+     * Reads the snapshot in {@code filePath} into memory.
+     */
+    static BinarySnapshot read(Path filePath) throws IOException, IllegalValueException {
+        return new BinarySnapshot(ByteBuffer.wrap(Files.readAllBytes(filePath)));
+    }
+
+    /**
+     * Maps the snapshot in {@code filePath} into memory without reading it, so that only the sections that are used
+     * are ever read from the disk. The file cannot be replaced while it is mapped on some platforms, so this is meant
+     * for read-only use.
+     */
+    static BinarySnapshot map(Path filePath) throws IOException, IllegalValueException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            return new BinarySnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Returns the number of members, decoding only the start of the members section.
+     */
+    int getMemberCount() throws IllegalValueException {
+        try {
+            return readVarInt(section(MEMBERS_SECTION));
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT, e);
+        }
+    }
+
+    /**
+     * Returns the number of events, decoding only the start of the events section.
+     */
+    int getEventCount() throws IllegalValueException {
+        try {
+            return readVarInt(section(EVENTS_SECTION));
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT, e);
+        }
+    }
+
+    /**
+     * Decodes the whole snapshot into the model's {@code AddressBook} object.
+     *
+     * @throws IllegalValueException if the file is damaged or there were any data constraints violated.
+     */
+    AddressBook toModelType() throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        Map<Integer, Member> membersById = new HashMap<>();
+        MemberLoader loader = new MemberLoader(addressBook);
+        try {
+            ByteBuffer members = section(MEMBERS_SECTION);
+            ByteBuffer tasks = section(TASKS_SECTION);
+            int memberCount = readVarInt(members);
+            for (int i = 0; i < memberCount; i++) {
+                int id = readVarInt(members);
+                Member member = readMember(members, tasks);
+                loader.add(member, id);
+                membersById.put(id, member);
+            }
+            loader.finish();
+
+            ByteBuffer events = section(EVENTS_SECTION);
+            int eventCount = readVarInt(events);
+            for (int i = 0; i < eventCount; i++) {
+                Event event = readEvent(events, membersById);
+                if (addressBook.hasEvent(event)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_EVENT);
+                }
+                addressBook.addEvent(event);
+            }
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | BufferUnderflowException
+                | NegativeArraySizeException e) {
+            // Thrown by the model for invalid values, and while decoding records that do not fit the file
+            throw new IllegalValueException(e.getMessage() == null ? MESSAGE_NOT_A_SNAPSHOT : e.getMessage(), e);
+        }
+        return addressBook;
+    }
+
+    private Member readMember(ByteBuffer members, ByteBuffer tasks) throws IllegalValueException {
+        Name name = new Name(string(readVarInt(members)));
+        Phone phone = value(PHONE_VALUES, readVarInt(members), Phone::new);
+        int email = readVarInt(members);
+        int address = readVarInt(members);
+        int positionCount = readVarInt(members);
+        Set<Position> positions = new HashSet<>();
+        for (int i = 0; i < positionCount; i++) {
+            positions.add(value(POSITION_VALUES, readVarInt(members), Position::of));
+        }
+        int taskCount = readVarInt(tasks);
+        TaskList taskList = new TaskList();
+        for (int i = 0; i < taskCount; i++) {
+            taskList.add(new Task(string(readVarInt(tasks)), tasks.get() != 0));
+        }
+        return new Member(name, phone, email == 0 ? null : value(EMAIL_VALUES, email - 1, Email::new),
+                address == 0 ? null : value(ADDRESS_VALUES, address - 1, Address::new), positions, taskList);
+    }
+
+    private Event readEvent(ByteBuffer events, Map<Integer, Member> membersById) throws IllegalValueException {
+        Name name = new Name(string(readVarInt(events)));
+        EventDate date = value(DATE_VALUES, readVarInt(events), EventDate::new);
+        int participantCount = readVarInt(events);
+        Map<Member, Boolean> participants = new HashMap<>();
+        for (int i = 0; i < participantCount; i++) {
+            int flags = events.get();
+            Member participant;
+            if ((flags & PARTICIPANT_NOT_LISTED) != 0) {
+                participant = readMember(events, events);
+            } else {
+                participant = membersById.get(readVarInt(events));
+                if (participant == null) {
+                    throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+                }
+            }
+            participants.put(participant, (flags & PARTICIPANT_ATTENDED) != 0);
+        }
+        return new Event(name, date, participants);
+    }
+
+    /**
+     * Returns the string at {@code index} of the dictionary, decoding the dictionary on first use.
+     */
+    String string(int index) throws IllegalValueException {
+        if (strings == null) {
+            ByteBuffer dictionary = section(STRINGS_SECTION);
+            int count = readVarInt(dictionary);
+            stringOffsets = new int[count];
+            for (int i = 0; i < count; i++) {
+                stringOffsets[i] = dictionary.position();
+                int length = readVarInt(dictionary);
+                dictionary.position(dictionary.position() + length);
+            }
+            strings = new String[count];
+            values = new Object[VALUE_KINDS][count];
+        }
+        if (strings[index] == null) {
+            ByteBuffer dictionary = section(STRINGS_SECTION);
+            dictionary.position(stringOffsets[index]);
+            byte[] bytes = new byte[readVarInt(dictionary)];
+            dictionary.get(bytes);
+            strings[index] = new String(bytes, UTF_8);
+        }
+        return strings[index];
+    }
+
+    /**
+     * Returns the value of the given {@code kind} made from the string at {@code index}, made once for each string.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T value(int kind, int index, Function<String, T> factory) throws IllegalValueException {
+        String string = string(index);
+        if (values[kind][index] == null) {
+            values[kind][index] = factory.apply(string);
+        }
+        return (T) values[kind][index];
+    }
+
+    /**
+     * Returns the section with the given {@code id}, checking its checksum the first time.
+     */
+    private ByteBuffer section(int id) throws IllegalValueException {
+        Section section = sections.get(id);
+        if (section == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_SECTION, id));
+        }
+        ByteBuffer buffer = file.duplicate();
+        buffer.position(section.offset);
+        buffer.limit(section.offset + section.length);
+        buffer = buffer.slice();
+        if (!section.isVerified) {
+            CRC32 checksum = new CRC32();
+            checksum.update(buffer.duplicate());
+            if ((int) checksum.getValue() != section.checksum) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_SECTION, id));
+            }
+            section.isVerified = true;
+        }
+        return buffer;
+    }
+
+    /**
+     * Reads a variable-length integer of 7 bits per byte, lowest bits first.
+     */
+    static int readVarInt(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed number in the file.");
+    }
+
+    /**
+     * The location of a section in the file.
+     */
+    private static class Section {
+        private final int offset;
+        private final int length;
+        private final int checksum;
+        private boolean isVerified;
+
+        Section(int offset, int length, int checksum) {
+            this.offset = offset;
+            this.length = length;
+            this.checksum = checksum;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.module.Name;
+import seedu.address.model.module.event.Event;
+import seedu.address.model.module.member.Member;
+import seedu.address.model.module.member.position.Position;
+import seedu.address.model.module.task.Task;
+
+/**
+ * Writes an address book in the binary snapshot format described in {@link BinarySnapshot}.
+ *
+ * Sections are written to the file as they are encoded, through a fixed-size buffer. The dictionary of strings is
+ * only complete once everything else is written, so it is the last section, and the header is completed at the end
+ * with the offset of the table of contents.
+ */
+class BinarySnapshotWriter {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final CRC32 checksum = new CRC32();
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private final ByteBuffer toc = ByteBuffer.allocate(4 + 4 * 24);
+    private int sectionCount;
+    private long flushedSize;
+    private long sectionStart;
+
+    private BinarySnapshotWriter(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code channel}, which must be at the start of an empty file.
+     */
+    static void write(ReadOnlyAddressBook addressBook, FileChannel channel) throws IOException {
+        new BinarySnapshotWriter(channel).writeSnapshot(addressBook);
+    }
+
+    private void writeSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        buffer.putInt(BinarySnapshot.MAGIC).putInt(BinarySnapshot.FORMAT_VERSION).putLong(0);
+        toc.putInt(0);
+
+        Map<Name, Integer> memberIds = new HashMap<>();
+        beginSection();
+        writeVarInt(addressBook.getMemberList().size());
+        for (Member member : addressBook.getMemberList()) {
+            int id = addressBook.getMemberId(member);
+            memberIds.put(member.getName(), id);
+            writeVarInt(id);
+            writeMemberDetails(member);
+        }
+        endSection(BinarySnapshot.MEMBERS_SECTION);
+
+        beginSection();
+        for (Member member : addressBook.getMemberList()) {
+            writeTasks(member);
+        }
+        endSection(BinarySnapshot.TASKS_SECTION);
+
+        beginSection();
+        writeVarInt(addressBook.getEventList().size());
+        for (Event event : addressBook.getEventList()) {
+            writeVarInt(indexOf(event.getName().fullName));
+            writeVarInt(indexOf(event.getDate().toString()));
+            Map<Member, Boolean> participants = event.getMap();
+            writeVarInt(participants.size());
+            for (Map.Entry<Member, Boolean> participant : participants.entrySet()) {
+                Integer id = memberIds.get(participant.getKey().getName());
+                int attended = participant.getValue() ? BinarySnapshot.PARTICIPANT_ATTENDED : 0;
+                if (id != null) {
+                    writeByte(attended);
+                    writeVarInt(id);
+                } else {
+                    writeByte(attended | BinarySnapshot.PARTICIPANT_NOT_LISTED);
+                    writeMemberDetails(participant.getKey());
+                    writeTasks(participant.getKey());
+                }
+            }
+        }
+        endSection(BinarySnapshot.EVENTS_SECTION);
+
+        beginSection();
+        writeVarInt(strings.size());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(UTF_8);
+            writeVarInt(bytes.length);
+            writeBytes(bytes);
+        }
+        endSection(BinarySnapshot.STRINGS_SECTION);
+
+        long tocOffset = flushedSize;
+        toc.putInt(0, sectionCount).flip();
+        while (toc.hasRemaining()) {
+            channel.write(toc);
+        }
+        ByteBuffer header = ByteBuffer.allocate(8).putLong(0, tocOffset);
+        while (header.hasRemaining()) {
+            channel.write(header, BinarySnapshot.TOC_OFFSET_POSITION + header.position());
+        }
+    }
+
+    private void writeMemberDetails(Member member) throws IOException {
+        writeVarInt(indexOf(member.getName().fullName));
+        writeVarInt(indexOf(member.getPhone().value));
+        writeVarInt(member.getEmail().isPresent() ? indexOf(member.getEmail().get().value) + 1 : 0);
+        writeVarInt(member.getAddress().isPresent() ? indexOf(member.getAddress().get().value) + 1 : 0);
+        writeVarInt(member.getPositions().size());
+        for (Position position : member.getPositions()) {
+            writeVarInt(indexOf(position.positionName));
+        }
+    }
+
+    private void writeTasks(Member member) throws IOException {
+        List<Task> tasks = member.getTaskList().asUnmodifiableObservableList();
+        writeVarInt(tasks.size());
+        for (Task task : tasks) {
+            writeVarInt(indexOf(task.getTaskName()));
+            writeByte(task.isDone() ? 1 : 0);
+        }
+    }
+
+    private int indexOf(String string) {
+        Integer index = stringIndexes.get(string);
+        if (index == null) {
+            index = strings.size();
+            stringIndexes.put(string, index);
+            strings.add(string);
+        }
+        return index;
+    }
+
+    private void beginSection() throws IOException {
+        flush();
+        checksum.reset();
+        sectionStart = flushedSize;
+    }
+
+    private void endSection(int id) throws IOException {
+        flush();
+        toc.putInt(id).putLong(sectionStart).putLong(flushedSize - sectionStart).putInt((int) checksum.getValue());
+        sectionCount++;
+    }
+
+    private void writeByte(int b) throws IOException {
+        if (!buffer.hasRemaining()) {
+            flush();
+        }
+        buffer.put((byte) b);
+    }
+
+    private void writeVarInt(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        writeByte(value);
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        int written = 0;
+        while (written < bytes.length) {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            int length = Math.min(buffer.remaining(), bytes.length - written);
+            buffer.put(bytes, written, length);
+            written += length;
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        checksum.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            flushedSize += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,161 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.module.Name;
+import seedu.address.model.module.event.Event;
+import seedu.address.model.module.member.Member;
+
+/**
+ * Keeps the json encoding of each member and event of the address book last saved, so that the next save only has to
+ * encode the members and events that changed since.
+ *
+ * Encodings are kept by the identity of the member or event. Members and events can be changed in place, so the cache
+ * listens to the address book it last encoded, and drops the encoding of any member or event reported as changed.
+ * An address book that cannot be listened to is encoded in full.
+ *
+ * An event with participants who are not in the member list is always encoded afresh, since whether a participant is
+ * saved as a reference depends on the rest of the member list.
+ */
+class EncodedRecordCache implements AddressBook.RecordListener {
+
+    private static final byte[] INDENTATION = "  ".getBytes();
+
+    private final boolean isPretty;
+    private Map<Member, EncodedMember> members = new IdentityHashMap<>();
+    private Map<Event, byte[]> events = new IdentityHashMap<>();
+    /** The address book listened to, or null if there is none. */
+    private AddressBook source;
+
+    /**
+     * Creates a cache of encodings that are indented to be nested one level deep in the address book if
+     * {@code isPretty} is true, or written without any whitespace otherwise.
+     */
+    EncodedRecordCache(boolean isPretty) {
+        this.isPretty = isPretty;
+    }
+
+    /**
+     * The encoded members and events of an address book, each in list order.
+     */
+    static class Encoded {
+        final List<byte[]> members;
+        final List<byte[]> events;
+
+        private Encoded(List<byte[]> members, List<byte[]> events) {
+            this.members = members;
+            this.events = events;
+        }
+    }
+
+    /**
+     * Encodes the members and events of {@code addressBook}, reusing the encodings of those that have not changed
+     * since the last call. Only the encodings of {@code addressBook} are kept for the next call.
+     */
+    synchronized Encoded encode(ReadOnlyAddressBook addressBook) throws JsonProcessingException {
+        listenTo(addressBook);
+
+        List<byte[]> encodedMembers = new ArrayList<>(addressBook.getMemberList().size());
+        Map<Member, EncodedMember> keptMembers = new IdentityHashMap<>(addressBook.getMemberList().size());
+        for (Member member : addressBook.getMemberList()) {
+            int id = addressBook.getMemberId(member);
+            EncodedMember encoded = members.get(member);
+            if (encoded == null || encoded.id != id) {
+                encoded = new EncodedMember(id, toJsonBytes(new JsonAdaptedMember(member, id)));
+            }
+            keptMembers.put(member, encoded);
+            encodedMembers.add(encoded.bytes);
+        }
+
+        Set<Name> memberNames = JsonSerializableAddressBook.memberNamesOf(addressBook);
+        List<byte[]> encodedEvents = new ArrayList<>(addressBook.getEventList().size());
+        Map<Event, byte[]> keptEvents = new IdentityHashMap<>(addressBook.getEventList().size());
+        for (Event event : addressBook.getEventList()) {
+            byte[] encoded = events.get(event);
+            if (encoded == null) {
+                encoded = toJsonBytes(new JsonAdaptedEvent(event, memberNames));
+                if (!event.getMap().keySet().stream().allMatch(member -> memberNames.contains(member.getName()))) {
+                    encodedEvents.add(encoded);
+                    continue;
+                }
+            }
+            keptEvents.put(event, encoded);
+            encodedEvents.add(encoded);
+        }
+
+        members = source == null ? new IdentityHashMap<>() : keptMembers;
+        events = source == null ? new IdentityHashMap<>() : keptEvents;
+        return new Encoded(encodedMembers, encodedEvents);
+    }
+
+    /**
+     * Listens to {@code addressBook} instead of the address book listened to before. Encodings kept from before are
+     * only reused for members and events that are also in {@code addressBook}.
+     */
+    private void listenTo(ReadOnlyAddressBook addressBook) {
+        if (addressBook == source) {
+            return;
+        }
+        if (source != null) {
+            source.removeRecordListener(this);
+        }
+        if (addressBook instanceof AddressBook) {
+            source = (AddressBook) addressBook;
+            source.addRecordListener(this);
+        } else {
+            source = null;
+            allChanged();
+        }
+    }
+
+    private byte[] toJsonBytes(Object adapted) throws JsonProcessingException {
+        byte[] json = JsonUtil.toJsonBytes(adapted, isPretty);
+        if (!isPretty) {
+            return json;
+        }
+        ByteArrayOutputStream indented = new ByteArrayOutputStream(json.length + json.length / 8);
+        for (byte b : json) {
+            indented.write(b);
+            if (b == '\n') {
+                indented.write(INDENTATION, 0, INDENTATION.length);
+            }
+        }
+        return indented.toByteArray();
+    }
+
+    @Override
+    public synchronized void memberChanged(Member member) {
+        members.remove(member);
+    }
+
+    @Override
+    public synchronized void eventChanged(Event event) {
+        events.remove(event);
+    }
+
+    @Override
+    public synchronized void allChanged() {
+        members.clear();
+        events.clear();
+    }
+
+    private static class EncodedMember {
+        private final int id;
+        private final byte[] bytes;
+
+        EncodedMember(int id, byte[] bytes) {
+            this.id = id;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,497 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.AtomicFileWriter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.module.Name;
+import seedu.address.model.module.event.Event;
+import seedu.address.model.module.member.Member;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot followed by an append-only journal of changes.
+ *
+ * Each save appends one entry to the journal, holding only the members and events that changed since the last save.
+ * Once the journal grows past a threshold, a new snapshot is written in the background and the journal entries that
+ * it covers are dropped. Reading loads the snapshot and replays the journal entries after it. An entry that was only
+ * partly written, as after a crash, ends the replay and is cut off, so the data read is that of the last full save.
+ *
+ * The snapshot is an ordinary json address book file, with the number of the last journal entry it covers added.
+ * Snapshots are written through an {@link AtomicFileWriter}, which also keeps their backups. Journal entries are
+ * appended in place, and are forced to the disk unless the sync policy of the writer is
+ * {@link AtomicFileWriter.SyncPolicy#NONE}.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    /** The value of {@code UserPrefs#getAddressBookStorageType()} that selects this storage. */
+    public static final String STORAGE_TYPE = "journal";
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1 << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private static final String SEQUENCE_FIELD = "journalSequence";
+    private static final String MEMBER_CHANGE = "member";
+    private static final String EVENT_CHANGE = "event";
+    private static final String REMOVED_MEMBER_CHANGE = "removedMember";
+    private static final String REMOVED_EVENT_CHANGE = "removedEvent";
+
+    private final Path filePath;
+    private final AtomicFileWriter fileWriter;
+    /** Rewrites the journal when compacting, with the sync policy of {@code fileWriter} but without backups. */
+    private final AtomicFileWriter journalWriter;
+    private final long compactionThreshold;
+    private final Executor compactionExecutor;
+
+    /** The records last saved to {@code filePath}, or null if they are not known. */
+    private Records saved;
+    private long sequence;
+    private long snapshotSequence;
+    private long journalSize;
+    private boolean isCompactionScheduled;
+
+    /**
+     * Creates a storage that compacts its journal in the background once the journal is larger than
+     * {@link #DEFAULT_COMPACTION_THRESHOLD} bytes.
+     */
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, AtomicFileWriter.DEFAULT);
+    }
+
+    /**
+     * Creates a storage that writes its snapshots through {@code fileWriter}, and compacts its journal in the
+     * background once the journal is larger than {@link #DEFAULT_COMPACTION_THRESHOLD} bytes.
+     */
+    public JournalAddressBookStorage(Path filePath, AtomicFileWriter fileWriter) {
+        this(filePath, fileWriter, DEFAULT_COMPACTION_THRESHOLD, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "journal-compaction");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a storage that writes its snapshots through {@code fileWriter}, and compacts its journal on
+     * {@code compactionExecutor} once the journal is larger than {@code compactionThreshold} bytes.
+     */
+    JournalAddressBookStorage(Path filePath, AtomicFileWriter fileWriter, long compactionThreshold,
+                              Executor compactionExecutor) {
+        requireNonNull(filePath);
+        requireNonNull(fileWriter);
+        requireNonNull(compactionExecutor);
+        this.filePath = filePath;
+        this.fileWriter = fileWriter;
+        this.journalWriter = new AtomicFileWriter(fileWriter.getSyncPolicy(), 0);
+        this.compactionThreshold = compactionThreshold;
+        this.compactionExecutor = compactionExecutor;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        Path journalPath = getJournalFilePath(filePath);
+        if (!Files.exists(filePath) && !Files.exists(journalPath)) {
+            logger.info("Address book file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        Records records = new Records();
+        long lastSequence = 0;
+        long validJournalSize = 0;
+        try {
+            if (Files.exists(filePath)) {
+                JsonNode snapshot = JsonUtil.readJsonTree(FileUtil.readFromFile(filePath));
+                JsonSerializableAddressBook.checkSchemaVersion(snapshot.path("schemaVersion").asInt(1));
+                lastSequence = snapshot.path(SEQUENCE_FIELD).asLong(0);
+                records.putAll(snapshot);
+            }
+            long readSnapshotSequence = lastSequence;
+            if (Files.exists(journalPath)) {
+                Journal journal = new Journal(Files.readAllBytes(journalPath));
+                for (JsonNode entry = journal.next(); entry != null; entry = journal.next()) {
+                    long entrySequence = entry.path("sequence").asLong();
+                    if (entrySequence > lastSequence) {
+                        records.apply(entry.path("changes"));
+                        lastSequence = entrySequence;
+                    }
+                }
+                validJournalSize = journal.getValidSize();
+                if (journal.getValidSize() < journal.getSize()) {
+                    logger.warning("Dropping an incomplete entry at the end of " + journalPath);
+                    try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                        channel.truncate(validJournalSize);
+                    }
+                }
+            }
+
+            ReadOnlyAddressBook addressBook = JsonUtil.fromJsonString(records.toJson(null),
+                    JsonSerializableAddressBook.class).toModelType();
+            if (filePath.equals(this.filePath)) {
+                Records readBack = Records.of(addressBook);
+                saved = readBack.equals(records) ? readBack : null;
+                sequence = lastSequence;
+                snapshotSequence = readSnapshotSequence;
+                journalSize = validJournalSize;
+            }
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from address book file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * A {@code filePath} other than the one this storage was created with is written as a whole, without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Records records = Records.of(addressBook);
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(records, 0, filePath);
+            Files.deleteIfExists(getJournalFilePath(filePath));
+            return;
+        }
+
+        String changes = saved == null ? null : records.changesSince(saved);
+        if (changes == null) {
+            sequence++;
+            writeSnapshot(records, sequence, filePath);
+            snapshotSequence = sequence;
+            Files.deleteIfExists(getJournalFilePath(filePath));
+            journalSize = 0;
+        } else if (!changes.isEmpty()) {
+            sequence++;
+            byte[] entry = Journal.encode("{\"sequence\":" + sequence + ",\"changes\":[" + changes + "]}");
+            append(getJournalFilePath(filePath), entry);
+            journalSize += entry.length;
+        }
+        saved = records;
+
+        if (journalSize > compactionThreshold && !isCompactionScheduled) {
+            isCompactionScheduled = true;
+            Records toCompact = records;
+            long compactedSequence = sequence;
+            compactionExecutor.execute(() -> compact(toCompact, compactedSequence));
+        }
+    }
+
+    /**
+     * Appends {@code entry} to the journal at {@code journalPath}, forcing it to the disk as set by the sync policy.
+     */
+    private void append(Path journalPath, byte[] entry) throws IOException {
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(entry);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (fileWriter.getSyncPolicy() != AtomicFileWriter.SyncPolicy.NONE) {
+                channel.force(false);
+            }
+        }
+    }
+
+    /**
+     * Writes {@code records} as the snapshot up to {@code compactedSequence}, and drops the journal entries it covers.
+     * The snapshot is encoded before taking the lock, so that saves only wait for it to be written.
+     */
+    private void compact(Records records, long compactedSequence) {
+        try {
+            byte[] snapshot = records.toJson(compactedSequence).getBytes(UTF_8);
+            synchronized (this) {
+                isCompactionScheduled = false;
+                if (compactedSequence <= snapshotSequence) {
+                    return;
+                }
+                fileWriter.write(filePath, snapshot);
+                snapshotSequence = compactedSequence;
+                dropJournalEntriesUpTo(compactedSequence);
+            }
+        } catch (IOException ioe) {
+            synchronized (this) {
+                isCompactionScheduled = false;
+            }
+            logger.warning("Could not compact the journal of " + filePath + ": " + ioe);
+        }
+    }
+
+    private void dropJournalEntriesUpTo(long compactedSequence) throws IOException {
+        Path journalPath = getJournalFilePath(filePath);
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+        Journal journal = new Journal(Files.readAllBytes(journalPath));
+        ByteArrayOutputStream remaining = new ByteArrayOutputStream();
+        for (JsonNode entry = journal.next(); entry != null; entry = journal.next()) {
+            if (entry.path("sequence").asLong() > compactedSequence) {
+                remaining.write(Journal.encode(entry.toString()));
+            }
+        }
+        journalWriter.write(journalPath, remaining.toByteArray());
+        journalSize = remaining.size();
+    }
+
+    private void writeSnapshot(Records records, long snapshotSequence, Path filePath) throws IOException {
+        fileWriter.write(filePath, records.toJson(snapshotSequence).getBytes(UTF_8));
+    }
+
+    /**
+     * The members and events of an address book as compact json records, each in the order of its list.
+     * Members are keyed by their id and events by their name and date.
+     */
+    private static class Records {
+        private final Map<String, String> members = new LinkedHashMap<>();
+        private final Map<String, String> events = new LinkedHashMap<>();
+
+        static Records of(ReadOnlyAddressBook addressBook) {
+            Records records = new Records();
+            Set<Name> memberNames = JsonSerializableAddressBook.memberNamesOf(addressBook);
+            for (Member member : addressBook.getMemberList()) {
+                int id = addressBook.getMemberId(member);
+                records.members.put(String.valueOf(id), JsonUtil.toJsonTree(new JsonAdaptedMember(member, id))
+                        .toString());
+            }
+            for (Event event : addressBook.getEventList()) {
+                records.events.put(eventKey(event.getName().fullName, event.getDate().toString()),
+                        JsonUtil.toJsonTree(new JsonAdaptedEvent(event, memberNames)).toString());
+            }
+            return records;
+        }
+
+        void putAll(JsonNode addressBook) {
+            for (JsonNode member : addressBook.path("members")) {
+                putMember(member);
+            }
+            for (JsonNode event : addressBook.path("events")) {
+                putEvent(event);
+            }
+        }
+
+        void apply(JsonNode changes) {
+            for (JsonNode change : changes) {
+                if (change.has(MEMBER_CHANGE)) {
+                    putMember(change.get(MEMBER_CHANGE));
+                } else if (change.has(EVENT_CHANGE)) {
+                    putEvent(change.get(EVENT_CHANGE));
+                } else if (change.has(REMOVED_MEMBER_CHANGE)) {
+                    members.remove(change.get(REMOVED_MEMBER_CHANGE).asText());
+                } else if (change.has(REMOVED_EVENT_CHANGE)) {
+                    events.remove(change.get(REMOVED_EVENT_CHANGE).toString());
+                }
+            }
+        }
+
+        private void putMember(JsonNode member) {
+            // Members without an id come from files written before ids were saved, and each gets a key of its own.
+            String key = member.has("id") ? member.get("id").asText() : "#" + members.size();
+            members.put(key, member.toString());
+        }
+
+        private void putEvent(JsonNode event) {
+            events.put(eventKey(event.path("name").asText(), event.path("date").asText()), event.toString());
+        }
+
+        private static String eventKey(String name, String date) {
+            return JsonNodeFactory.instance.objectNode().put("name", name).put("date", date).toString();
+        }
+
+        /**
+         * Returns the changes that turn {@code previous} into these records, as comma-separated json objects,
+         * or null if most records would have to be written again to get them in the same order.
+         * A record that moved, such as a member given the id of a removed member, is removed and added again at the
+         * end.
+         */
+        String changesSince(Records previous) {
+            Set<String> movedMembers = movedKeys(previous.members, members);
+            Set<String> movedEvents = movedKeys(previous.events, events);
+            if (movedMembers == null || movedEvents == null) {
+                return null;
+            }
+            List<String> changes = new ArrayList<>();
+            previous.members.keySet().stream().filter(key -> !members.containsKey(key) || movedMembers.contains(key))
+                    .forEach(key -> changes.add("{\"" + REMOVED_MEMBER_CHANGE + "\":" + key + "}"));
+            previous.events.keySet().stream().filter(key -> !events.containsKey(key) || movedEvents.contains(key))
+                    .forEach(key -> changes.add("{\"" + REMOVED_EVENT_CHANGE + "\":" + key + "}"));
+            members.forEach((key, member) -> {
+                if (movedMembers.contains(key) || !member.equals(previous.members.get(key))) {
+                    changes.add("{\"" + MEMBER_CHANGE + "\":" + member + "}");
+                }
+            });
+            events.forEach((key, event) -> {
+                if (movedEvents.contains(key) || !event.equals(previous.events.get(key))) {
+                    changes.add("{\"" + EVENT_CHANGE + "\":" + event + "}");
+                }
+            });
+            return String.join(",", changes);
+        }
+
+        /**
+         * Returns the keys of {@code current} that are also in {@code previous} but come after the longest start of
+         * {@code current} kept in the order of {@code previous}, or null if they are more than half of the keys.
+         * Removing these keys and those missing from {@code current} from {@code previous}, and then adding them
+         * with the new keys at the end, turns the order of {@code previous} into the order of {@code current}.
+         */
+        private static Set<String> movedKeys(Map<String, String> previous, Map<String, String> current) {
+            Map<String, Integer> previousPositions = new HashMap<>(previous.size() * 2);
+            for (String key : previous.keySet()) {
+                previousPositions.put(key, previousPositions.size());
+            }
+            Set<String> moved = new HashSet<>();
+            int lastPosition = -1;
+            boolean isInOrder = true;
+            for (String key : current.keySet()) {
+                Integer position = previousPositions.get(key);
+                isInOrder = isInOrder && position != null && position > lastPosition;
+                if (isInOrder) {
+                    lastPosition = position;
+                } else if (position != null) {
+                    moved.add(key);
+                }
+            }
+            return moved.size() * 2 > current.size() ? null : moved;
+        }
+
+        /**
+         * Returns these records as a json address book, marked as covering the journal up to {@code sequence}
+         * if it is not null.
+         */
+        String toJson(Long sequence) {
+            StringBuilder json = new StringBuilder("{\"schemaVersion\":")
+                    .append(JsonSerializableAddressBook.SCHEMA_VERSION).append(',');
+            if (sequence != null) {
+                json.append('"').append(SEQUENCE_FIELD).append("\":").append(sequence).append(',');
+            }
+            json.append("\"members\":[").append(String.join(",", members.values())).append("],");
+            json.append("\"events\":[").append(String.join(",", events.values())).append("]}");
+            return json.toString();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Records
+                    && members.equals(((Records) other).members)
+                    && events.equals(((Records) other).events));
+        }
+
+        @Override
+        public int hashCode() {
+            return members.hashCode() ^ events.hashCode();
+        }
+    }
+
+    /**
+     * Reads and writes journal entries. Each entry is a line holding the checksum of its json, then the json.
+     */
+    private static class Journal {
+        private final byte[] bytes;
+        private int validSize;
+
+        Journal(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        static byte[] encode(String json) {
+            byte[] jsonBytes = json.getBytes(UTF_8);
+            CRC32 checksum = new CRC32();
+            checksum.update(jsonBytes);
+            return (String.format("%08x ", checksum.getValue()) + json + "\n").getBytes(UTF_8);
+        }
+
+        /**
+         * Returns the next entry, or null if there are no more complete and intact entries.
+         */
+        JsonNode next() {
+            int end = validSize;
+            while (end < bytes.length && bytes[end] != '\n') {
+                end++;
+            }
+            if (end >= bytes.length || end - validSize < 9 || bytes[validSize + 8] != ' ') {
+                return null;
+            }
+            CRC32 checksum = new CRC32();
+            checksum.update(bytes, validSize + 9, end - validSize - 9);
+            try {
+                long expected = Long.parseLong(new String(bytes, validSize, 8, UTF_8), 16);
+                if (expected != checksum.getValue()) {
+                    return null;
+                }
+                JsonNode entry = JsonUtil.readJsonTree(new String(bytes, validSize + 9, end - validSize - 9, UTF_8));
+                validSize = end + 1;
+                return entry;
+            } catch (NumberFormatException | IOException e) {
+                return null;
+            }
+        }
+
+        int getValidSize() {
+            return validSize;
+        }
+
+        int getSize() {
+            return bytes.length;
+        }
+    }
+
+}
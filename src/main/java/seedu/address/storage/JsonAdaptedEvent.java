@@ -1,11 +1,16 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -22,46 +27,89 @@ public class JsonAdaptedEvent {
 
     private final String name;
     private final String date;
+    private final List<JsonAdaptedParticipant> participantRefs;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final List<JsonAdaptedMember> participants;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final List<Boolean> attendanceList;
 
     /**
      * Constructs a {@code JsonAdaptedEvent} with the given event details.
+     * Events saved before participants were saved as references have {@code participants} and
+     * {@code attendanceList} instead of {@code participantRefs}.
      */
     @JsonCreator
     public JsonAdaptedEvent(@JsonProperty("name") String name, @JsonProperty("date") String date,
+                            @JsonProperty("participantRefs") List<JsonAdaptedParticipant> participantRefs,
                             @JsonProperty("participants") List<JsonAdaptedMember> participants,
                             @JsonProperty("attendanceList") List<Boolean> attendanceList) {
         this.name = name;
         this.date = date;
+        this.participantRefs = participantRefs;
         this.participants = participants;
         this.attendanceList = attendanceList;
     }
 
     /**
-     * Converts a given {@code Event} into this class for Jackson use.
+     * Constructs a {@code JsonAdaptedEvent} with the given event details, with every participant saved in full.
+     */
+    public JsonAdaptedEvent(String name, String date, List<JsonAdaptedMember> participants,
+                            List<Boolean> attendanceList) {
+        this(name, date, null, participants, attendanceList);
+    }
+
+    /**
+     * Converts a given {@code Event} into this class for Jackson use, with every participant saved in full.
      */
     public JsonAdaptedEvent(Event source) {
+        this(source, Collections.emptySet());
+    }
+
+    /**
+     * Converts a given {@code Event} into this class for Jackson use.
+     *
+     * @param memberNames names of the members in the member list, whose participation is saved as a reference.
+     */
+    public JsonAdaptedEvent(Event source, Set<Name> memberNames) {
         name = source.getName().fullName;
         date = source.getDate().toString();
-        participants = new ArrayList<>();
-        attendanceList = new ArrayList<>();
-        for (Member m : source.getParticipants()) {
-            participants.add(new JsonAdaptedMember(m));
-            attendanceList.add(source.hasAttended(m));
-        }
+        participantRefs = new ArrayList<>();
+        participants = null;
+        attendanceList = null;
+        source.getMap().forEach((member, attended) -> participantRefs.add(
+                new JsonAdaptedParticipant(member, attended, memberNames.contains(member.getName()))));
     }
 
     /**
-     * Converts this Jackson-friendly adapted member object into the model's {@code Event} object.
+     * Converts this Jackson-friendly adapted event object into the model's {@code Event} object.
+     * Participants cannot refer to members by name.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted event.
      */
-
     public Event toModelType() throws IllegalValueException {
+        return toModelType(memberName -> Optional.empty());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted event object into the model's {@code Event} object.
+     *
+     * @param members finds the member in the member list with a given name, for participants saved as references.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted event.
+     */
+    public Event toModelType(Function<Name, Optional<Member>> members) throws IllegalValueException {
         final Map<Member, Boolean> map = new HashMap<>();
-        for (int i = 0; i < participants.size(); i++) {
-            map.put(participants.get(i).toModelType(), attendanceList.get(i));
+        if (participantRefs != null) {
+            for (JsonAdaptedParticipant participant : participantRefs) {
+                map.put(participant.toModelType(members), participant.hasAttended());
+            }
+        }
+        if (participants != null) {
+            if (attendanceList == null || attendanceList.size() != participants.size()) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_EVENT_FORMAT, "attendanceList"));
+            }
+            for (int i = 0; i < participants.size(); i++) {
+                map.put(participants.get(i).toModelType(), attendanceList.get(i));
+            }
         }
 
         if (name == null) {
@@ -7,6 +7,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -32,6 +33,9 @@ class JsonAdaptedMember {
     private final String address;
     private final List<JsonAdaptedPosition> attachedPositions = new ArrayList<>();
     private final List<JsonAdaptedTask> attachedTasks = new ArrayList<>();
+    @JsonProperty("id")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer id;
 
     /**
      * Constructs a {@code JsonAdaptedMember} with the given member details.
@@ -67,6 +71,21 @@ class JsonAdaptedMember {
         source.getTaskList().iterator().forEachRemaining((task -> attachedTasks.add(new JsonAdaptedTask(task))));
     }
 
+    /**
+     * Converts a given {@code Member} with the given {@code id} into this class for Jackson use.
+     */
+    public JsonAdaptedMember(Member source, int id) {
+        this(source);
+        this.id = id;
+    }
+
+    /**
+     * Returns the stable id of the member, or null if the member was saved without one.
+     */
+    public Integer getId() {
+        return id;
+    }
+
     /**
      * Converts this Jackson-friendly adapted member object into the model's {@code Member} object.
      *
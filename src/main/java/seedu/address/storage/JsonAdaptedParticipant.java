@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.module.Name;
+import seedu.address.model.module.member.Member;
+
+/**
+ * Jackson-friendly version of a participant of an {@link seedu.address.model.module.event.Event}.
+ * A participant who is in the member list is saved as a reference to the member by name. Any other participant is
+ * saved in full.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedParticipant {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Participant's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_MEMBER = "Participant %s is not in the members list.";
+
+    private final String name;
+    private final JsonAdaptedMember member;
+    private final Boolean attended;
+
+    /**
+     * Constructs a {@code JsonAdaptedParticipant} with the given participant details.
+     */
+    @JsonCreator
+    public JsonAdaptedParticipant(@JsonProperty("name") String name, @JsonProperty("member") JsonAdaptedMember member,
+                                  @JsonProperty("attended") Boolean attended) {
+        this.name = name;
+        this.member = member;
+        this.attended = attended;
+    }
+
+    /**
+     * Converts a given participant into this class for Jackson use.
+     *
+     * @param isListed whether the participant is in the member list, and can be saved as a reference.
+     */
+    public JsonAdaptedParticipant(Member source, boolean attended, boolean isListed) {
+        this(isListed ? source.getName().fullName : null, isListed ? null : new JsonAdaptedMember(source), attended);
+    }
+
+    public boolean hasAttended() {
+        return attended;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted participant object into the model's {@code Member} object.
+     *
+     * @param members finds the member in the member list with a given name.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted participant, or if
+     *     the participant refers to a member that is not in the member list.
+     */
+    public Member toModelType(Function<Name, Optional<Member>> members) throws IllegalValueException {
+        if (attended == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "attended"));
+        }
+        if (member != null) {
+            return member.toModelType();
+        }
+        if (name == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
+        }
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        Optional<Member> listedMember = members.apply(new Name(name));
+        if (!listedMember.isPresent()) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_MEMBER, name));
+        }
+        return listedMember.get();
+    }
+
+}
@@ -42,7 +42,7 @@ class JsonAdaptedPosition {
         if (!Position.isValidPositionName(positionName)) {
             throw new IllegalValueException(Position.MESSAGE_CONSTRAINTS);
         }
-        return new Position(positionName);
+        return Position.of(positionName);
     }
 
 }
@@ -1,30 +1,83 @@
 package seedu.address.storage;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.AtomicFileWriter;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ *
+ * The file is read as a stream, so that besides the address book itself only one batch of records is held in memory,
+ * along with the saved id of each member read so far, which {@link MemberLoader} needs once all members are read.
+ * Each batch is converted in parallel by {@link ParallelConverter} before it is added to the address book. When
+ * saving, the json of the members and events that did not change since the last save is taken from an
+ * {@link EncodedRecordCache}, and only the rest is encoded again. Events refer to participants in the member list by
+ * name, so the members have to come before the events in the file. The file is replaced through an
+ * {@link AtomicFileWriter}, so that a save that stops part way leaves the last saved file as it was.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    /** The value of {@code UserPrefs#getAddressBookStorageType()} that selects this storage. */
+    public static final String STORAGE_TYPE = "json";
+    /** The value of {@code UserPrefs#getAddressBookStorageType()} that selects this storage with compact output. */
+    public static final String COMPACT_STORAGE_TYPE = "compactJson";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final String SCHEMA_VERSION_FIELD = "schemaVersion";
+    private static final String MEMBERS_FIELD = "members";
+    private static final String EVENTS_FIELD = "events";
+    private static final int BATCH_SIZE = 4096;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
     private Path filePath;
+    private final boolean isCompact;
+    private final AtomicFileWriter fileWriter;
+    private final EncodedRecordCache cache;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage that writes its file without any indentation or line breaks if {@code isCompact} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, AtomicFileWriter.DEFAULT);
+    }
+
+    /**
+     * Creates a storage that writes its file as set by {@code isCompact}, replacing it through {@code fileWriter}.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, AtomicFileWriter fileWriter) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.fileWriter = fileWriter;
+        this.cache = new EncodedRecordCache(!isCompact);
     }
 
     public Path getAddressBookFilePath() {
@@ -45,20 +98,86 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(readAddressBook(parser));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         }
     }
 
+    /**
+     * Reads an address book from {@code parser}, converting the members and events a batch at a time.
+     */
+    private static AddressBook readAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+        AddressBook addressBook = new AddressBook();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (field.equals(SCHEMA_VERSION_FIELD) && value == JsonToken.VALUE_NUMBER_INT) {
+                JsonSerializableAddressBook.checkSchemaVersion(parser.getIntValue());
+            } else if (value != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+            } else if (field.equals(MEMBERS_FIELD)) {
+                MemberLoader loader = new MemberLoader(addressBook);
+                List<JsonAdaptedMember> batch;
+                do {
+                    batch = readBatch(parser, JsonAdaptedMember.class);
+                    loader.addAll(batch);
+                } while (batch.size() == BATCH_SIZE);
+                loader.finish();
+            } else if (field.equals(EVENTS_FIELD)) {
+                List<JsonAdaptedEvent> batch;
+                do {
+                    batch = readBatch(parser, JsonAdaptedEvent.class);
+                    JsonSerializableAddressBook.addEvents(addressBook, batch);
+                } while (batch.size() == BATCH_SIZE);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads up to {@link #BATCH_SIZE} records from the current array of {@code parser}.
+     * Fewer records are returned only if the end of the array has been reached.
+     */
+    private static <T> List<T> readBatch(JsonParser parser, Class<T> recordClass) throws IOException {
+        List<T> batch = new ArrayList<>();
+        while (batch.size() < BATCH_SIZE && nextRecord(parser)) {
+            batch.add(JsonUtil.readValue(parser, recordClass));
+        }
+        return batch;
+    }
+
+    /**
+     * Moves {@code parser} to the start of the next record in the current array.
+     *
+     * @return false if the end of the array has been reached.
+     */
+    private static boolean nextRecord(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY) {
+            return false;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an object but found " + token);
+        }
+        return true;
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -73,8 +192,51 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        EncodedRecordCache.Encoded encoded = cache.encode(addressBook);
+        fileWriter.write(filePath, channel -> writeAddressBook(channel, encoded));
+    }
+
+    private void writeAddressBook(FileChannel channel, EncodedRecordCache.Encoded encoded) throws IOException {
+        OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+        write(out, "{");
+        writeField(out, SCHEMA_VERSION_FIELD, false);
+        write(out, String.valueOf(JsonSerializableAddressBook.SCHEMA_VERSION));
+        writeField(out, MEMBERS_FIELD, true);
+        writeArray(out, encoded.members);
+        writeField(out, EVENTS_FIELD, true);
+        writeArray(out, encoded.events);
+        write(out, isCompact ? "}" : LINE_SEPARATOR + "}");
+        out.flush();
+    }
+
+    /**
+     * Writes the name of a field of the address book, preceded by a separator if it is not the first field.
+     * The layout is the one Jackson gives with its default pretty printer, or without one if the storage is compact,
+     * so that it matches the records encoded on their own by {@link EncodedRecordCache}.
+     */
+    private void writeField(OutputStream out, String name, boolean hasPreviousField) throws IOException {
+        if (hasPreviousField) {
+            write(out, ",");
+        }
+        write(out, isCompact ? "\"" + name + "\":" : LINE_SEPARATOR + "  \"" + name + "\" : ");
+    }
+
+    private void writeArray(OutputStream out, List<byte[]> records) throws IOException {
+        write(out, "[");
+        for (int i = 0; i < records.size(); i++) {
+            if (i > 0) {
+                write(out, ",");
+            }
+            if (!isCompact) {
+                write(out, " ");
+            }
+            out.write(records.get(i));
+        }
+        write(out, isCompact ? "]" : " ]");
+    }
+
+    private static void write(OutputStream out, String text) throws IOException {
+        out.write(text.getBytes(UTF_8));
     }
 
 }
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -11,6 +12,7 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.module.Name;
 import seedu.address.model.module.event.Event;
 import seedu.address.model.module.member.Member;
 
@@ -22,8 +24,18 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_MEMBER = "Members list contains duplicate member(s).";
     public static final String MESSAGE_DUPLICATE_EVENT = "Events list contains duplicate event(s).";
+    public static final String MESSAGE_DUPLICATE_MEMBER_ID = "Members list contains duplicate member id(s).";
+    public static final String MESSAGE_INVALID_MEMBER_ID = "Member ids should not be negative.";
+    public static final String MESSAGE_UNSUPPORTED_SCHEMA_VERSION =
+            "The data file was saved by a newer version of Ailurus (schema version %d).";
 
+    /**
+     * The version of the layout of the data file. Files without a version are version 1, where events save every
+     * participant in full. From version 2, events refer to participants in the member list by name.
+     */
+    public static final int SCHEMA_VERSION = 2;
 
+    private final int schemaVersion;
     private final List<JsonAdaptedMember> members = new ArrayList<>();
     private final List<JsonAdaptedEvent> events = new ArrayList<>();
 
@@ -31,8 +43,10 @@ class JsonSerializableAddressBook {
      * Constructs a {@code JsonSerializableAddressBook} with the given members and events.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("members") List<JsonAdaptedMember> members,
+    public JsonSerializableAddressBook(@JsonProperty("schemaVersion") Integer schemaVersion,
+                                       @JsonProperty("members") List<JsonAdaptedMember> members,
                                        @JsonProperty("events") List<JsonAdaptedEvent> events) {
+        this.schemaVersion = schemaVersion == null ? 1 : schemaVersion;
         this.members.addAll(members);
         this.events.addAll(events);
     }
@@ -43,8 +57,21 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        members.addAll(source.getMemberList().stream().map(JsonAdaptedMember::new).collect(Collectors.toList()));
-        events.addAll(source.getEventList().stream().map(JsonAdaptedEvent::new).collect(Collectors.toList()));
+        schemaVersion = SCHEMA_VERSION;
+        Set<Name> memberNames = memberNamesOf(source);
+        members.addAll(source.getMemberList().stream()
+                .map(member -> new JsonAdaptedMember(member, source.getMemberId(member)))
+                .collect(Collectors.toList()));
+        events.addAll(source.getEventList().stream()
+                .map(event -> new JsonAdaptedEvent(event, memberNames))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the names of the members in the member list of {@code source}.
+     */
+    static Set<Name> memberNamesOf(ReadOnlyAddressBook source) {
+        return source.getMemberList().stream().map(Member::getName).collect(Collectors.toSet());
     }
 
     /**
@@ -53,22 +80,59 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        checkSchemaVersion(schemaVersion);
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedMember jsonAdaptedMember : members) {
-            Member member = jsonAdaptedMember.toModelType();
-            if (addressBook.hasMember(member)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_MEMBER);
-            }
-            addressBook.addMember(member);
+        addMembers(addressBook, members);
+        addEvents(addressBook, events);
+        return addressBook;
+    }
+
+    /**
+     * Converts {@code jsonAdaptedMembers} in parallel and adds them to {@code addressBook} in order, keeping their ids
+     * if they are in range for the number of members, and numbering them in order otherwise.
+     *
+     * @throws IllegalValueException if there were any data constraints violated. The error reported is the one for
+     *     the earliest member in {@code jsonAdaptedMembers}.
+     * @see MemberLoader
+     */
+    static void addMembers(AddressBook addressBook, List<JsonAdaptedMember> jsonAdaptedMembers)
+            throws IllegalValueException {
+        MemberLoader loader = new MemberLoader(addressBook);
+        loader.addAll(jsonAdaptedMembers);
+        loader.finish();
+    }
+
+    /**
+     * Checks that a file with the given {@code schemaVersion} can be read.
+     *
+     * @throws IllegalValueException if the file was saved with a newer schema.
+     */
+    static void checkSchemaVersion(int schemaVersion) throws IllegalValueException {
+        if (schemaVersion > SCHEMA_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_SCHEMA_VERSION, schemaVersion));
         }
-        for (JsonAdaptedEvent jsonAdaptedEvent : events) {
-            Event event = jsonAdaptedEvent.toModelType();
+    }
+
+    /**
+     * Converts {@code jsonAdaptedEvents} in parallel and adds them to {@code addressBook} in order.
+     * Participants saved as references are resolved to the members already in {@code addressBook}, which is only
+     * read while the events are converted.
+     *
+     * @throws IllegalValueException if there were any data constraints violated. The error reported is the one for
+     *     the earliest event in {@code jsonAdaptedEvents}.
+     */
+    static void addEvents(AddressBook addressBook, List<JsonAdaptedEvent> jsonAdaptedEvents)
+            throws IllegalValueException {
+        ParallelConverter.Conversion<JsonAdaptedEvent, Event> conversion = jsonAdaptedEvent ->
+                jsonAdaptedEvent.toModelType(addressBook::getMember);
+        List<ParallelConverter.Result<Event>> converted = ParallelConverter.convert(jsonAdaptedEvents, conversion);
+        for (ParallelConverter.Result<Event> result : converted) {
+            Event event = result.get();
             if (addressBook.hasEvent(event)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
             }
             addressBook.addEvent(event);
         }
-        return addressBook;
     }
 
 }
@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.module.member.Member;
+
+/**
+ * Adds the members read from a data file to an address book in file order, and then gives them the ids they were
+ * saved with if those can be kept.
+ *
+ * A file can be read in batches before its number of members is known, so each member is first added with a new id,
+ * which numbers the members 0, 1, 2 and so on in file order. Once every member is added, the saved ids are kept if
+ * every member has one and they are all below {@value #MAX_ID_RANGE} times the number of members, which holds for a
+ * file saved after some members were removed. Otherwise, as when a member was saved without an id, or the saved ids
+ * are out of range or too sparse, the members keep the dense ids they were added with. A saved id is thus never used
+ * to size anything in the model beyond a small multiple of its number of members. Only the ids of a file are remapped,
+ * once, as it is read; the ids of the members in the model are never renumbered.
+ *
+ * Besides the members added to the address book, the loader only holds the saved id of each member, so that a file
+ * read in batches can hand each batch to the loader and drop it.
+ */
+class MemberLoader {
+
+    /** How many times the number of members the saved ids may range over to be kept. */
+    static final int MAX_ID_RANGE = 2;
+
+    private final AddressBook addressBook;
+    /** The saved id of each member added so far, in file order, or -1 for a member saved without one. */
+    private int[] savedIds = new int[16];
+    private int count;
+    private boolean hasAllIds = true;
+    private boolean isInFileOrder = true;
+    private int maxId = -1;
+
+    /**
+     * Creates a loader that adds members to {@code addressBook}, which must not have any members yet.
+     */
+    MemberLoader(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        assert addressBook.getMemberList().isEmpty();
+        this.addressBook = addressBook;
+    }
+
+    /**
+     * Converts {@code jsonAdaptedMembers} in parallel and adds them in order.
+     *
+     * @throws IllegalValueException if there were any data constraints violated. The error reported is the one for
+     *     the earliest member in {@code jsonAdaptedMembers}.
+     */
+    void addAll(List<JsonAdaptedMember> jsonAdaptedMembers) throws IllegalValueException {
+        List<ParallelConverter.Result<Member>> converted =
+                ParallelConverter.convert(jsonAdaptedMembers, JsonAdaptedMember::toModelType);
+        for (int i = 0; i < converted.size(); i++) {
+            add(converted.get(i).get(), jsonAdaptedMembers.get(i).getId());
+        }
+    }
+
+    /**
+     * Adds {@code member}, which was saved with {@code savedId}, or without an id if it is null.
+     *
+     * @throws IllegalValueException if the member is already in the file, or the id is negative.
+     */
+    void add(Member member, Integer savedId) throws IllegalValueException {
+        if (addressBook.hasMember(member)) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_MEMBER);
+        }
+        if (savedId != null && savedId < 0) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_INVALID_MEMBER_ID);
+        }
+        addressBook.addMember(member);
+
+        if (count == savedIds.length) {
+            savedIds = Arrays.copyOf(savedIds, count * 2);
+        }
+        savedIds[count] = savedId == null ? -1 : savedId;
+        hasAllIds = hasAllIds && savedId != null;
+        isInFileOrder = isInFileOrder && savedId != null && savedId == count;
+        maxId = savedId == null ? maxId : Math.max(maxId, savedId);
+        count++;
+    }
+
+    /**
+     * Gives the members added the ids they were saved with, if every member has one and they are all in range.
+     *
+     * @throws IllegalValueException if two members were saved with the same id.
+     */
+    void finish() throws IllegalValueException {
+        int[] sortedIds = Arrays.stream(savedIds, 0, count).filter(id -> id >= 0).sorted().toArray();
+        for (int i = 1; i < sortedIds.length; i++) {
+            if (sortedIds[i] == sortedIds[i - 1]) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_MEMBER_ID);
+            }
+        }
+        if (isInFileOrder || !hasAllIds || maxId >= (long) MAX_ID_RANGE * count) {
+            return;
+        }
+        List<Member> members = new ArrayList<>(addressBook.getMemberList());
+        Map<Member, Integer> ids = new IdentityHashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            ids.put(members.get(i), savedIds[i]);
+        }
+        addressBook.setMembers(members, ids::get);
+    }
+}
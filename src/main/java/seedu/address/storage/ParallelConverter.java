@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts Jackson-friendly adapted records into model objects, spreading the work over the common fork-join pool.
+ *
+ * Each record is converted on its own, so the results do not depend on how the work is split. Errors are kept with
+ * the record they belong to rather than thrown, so that callers can go through the results in file order and report
+ * the first error in the file, just as converting one record after another would.
+ */
+class ParallelConverter {
+
+    /** Lists shorter than this are converted on the calling thread, where splitting would cost more than it saves. */
+    static final int SEQUENTIAL_THRESHOLD = 256;
+
+    private ParallelConverter() {} // prevents instantiation
+
+    /**
+     * Converts a Jackson-friendly adapted record into a model object.
+     */
+    @FunctionalInterface
+    interface Conversion<A, M> {
+        M convert(A adapted) throws IllegalValueException;
+    }
+
+    /**
+     * The outcome of converting one record: either the model object, or the reason it could not be converted.
+     */
+    static class Result<M> {
+        private final M value;
+        private final IllegalValueException error;
+
+        private Result(M value, IllegalValueException error) {
+            this.value = value;
+            this.error = error;
+        }
+
+        /**
+         * Returns the model object.
+         *
+         * @throws IllegalValueException if the record could not be converted.
+         */
+        M get() throws IllegalValueException {
+            if (error != null) {
+                throw error;
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Converts each of {@code records}, returning the results in the same order.
+     * {@code conversion} may be called from several threads at once.
+     */
+    static <A, M> List<Result<M>> convert(List<A> records, Conversion<A, M> conversion) {
+        List<Result<M>> results = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            results.add(null);
+        }
+        IntStream indexes = IntStream.range(0, records.size());
+        if (records.size() >= SEQUENTIAL_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> results.set(i, convertOne(records.get(i), conversion)));
+        return results;
+    }
+
+    private static <A, M> Result<M> convertOne(A record, Conversion<A, M> conversion) {
+        try {
+            return new Result<>(conversion.convert(record), null);
+        } catch (IllegalValueException ive) {
+            return new Result<>(null, ive);
+        } catch (IllegalArgumentException iae) {
+            return new Result<>(null, new IllegalValueException(iae.getMessage(), iae));
+        }
+    }
+}
@@ -0,0 +1,432 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.AtomicFileWriter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.module.Name;
+import seedu.address.model.module.event.Event;
+import seedu.address.model.module.member.Member;
+
+/**
+ * A class to access AddressBook data stored as a directory of json shards on the hard disk.
+ *
+ * Members are spread over a fixed number of shards by their id, and events by their name and date. Each shard is a
+ * json array of records in its own file, and a manifest lists the file of each shard together with the shard of each
+ * member and event in list order. A save only writes the shards whose content changed, each to a new file, and then
+ * replaces the manifest with a rename. Until the manifest is replaced, the files it lists are left untouched, so the
+ * data read are always those of the last complete save. Shards are read concurrently when loading.
+ *
+ * The directory is next to the address book file path, with {@link #SHARD_DIRECTORY_SUFFIX} added to its name.
+ * A json address book file found at the file path when there is no manifest is read as json, so that switching to
+ * this storage keeps the existing data.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    /** The value of {@code UserPrefs#getAddressBookStorageType()} that selects this storage. */
+    public static final String STORAGE_TYPE = "sharded";
+
+    public static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final int DEFAULT_SHARD_COUNT = 32;
+    public static final String MESSAGE_MANIFEST_MISMATCH = "The shards of %s do not match its manifest.";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private static final String MEMBER_SHARD_PREFIX = "members-";
+    private static final String EVENT_SHARD_PREFIX = "events-";
+    private static final String SHARD_FILE_FORMAT = "%s%02d-%d.json";
+
+    private final Path filePath;
+    private final int shardCount;
+    private final AtomicFileWriter fileWriter;
+
+    /** The manifest last saved to or read from the directory of {@code filePath}, or null if it is not known. */
+    private Manifest manifest;
+    /** The content of each shard listed by {@code manifest}. */
+    private Shards saved;
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this(filePath, AtomicFileWriter.DEFAULT);
+    }
+
+    /**
+     * Creates a storage that forces its shards and manifest to the disk as set by the sync policy of
+     * {@code fileWriter}. No backups are kept, since shard files are never replaced, and an older manifest would list
+     * shard files that have since been deleted.
+     */
+    public ShardedAddressBookStorage(Path filePath, AtomicFileWriter fileWriter) {
+        this(filePath, DEFAULT_SHARD_COUNT, fileWriter);
+    }
+
+    /**
+     * Creates a storage that spreads the members and the events of a new directory over {@code shardCount} shards
+     * each. An existing directory keeps its number of shards.
+     */
+    ShardedAddressBookStorage(Path filePath, int shardCount) {
+        this(filePath, shardCount, AtomicFileWriter.DEFAULT);
+    }
+
+    private ShardedAddressBookStorage(Path filePath, int shardCount, AtomicFileWriter fileWriter) {
+        requireNonNull(filePath);
+        requireNonNull(fileWriter);
+        assert shardCount > 0;
+        this.filePath = filePath;
+        this.shardCount = shardCount;
+        this.fileWriter = new AtomicFileWriter(fileWriter.getSyncPolicy(), 0);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public static Path getShardDirectory(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the files are not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        Path directory = getShardDirectory(filePath);
+        Path manifestPath = directory.resolve(MANIFEST_FILE_NAME);
+        if (!Files.exists(manifestPath)) {
+            if (Files.exists(filePath)) {
+                logger.info("Reading " + filePath + " as a json file");
+                return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+            }
+            logger.info("Address book shards " + directory + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            Manifest readManifest = JsonUtil.fromJsonString(FileUtil.readFromFile(manifestPath), Manifest.class);
+            JsonSerializableAddressBook.checkSchemaVersion(readManifest.schemaVersion);
+            if (!readManifest.isComplete()) {
+                throw new IllegalValueException(String.format(MESSAGE_MANIFEST_MISMATCH, directory));
+            }
+            Shards shards = Shards.read(directory, readManifest);
+
+            AddressBook addressBook = new AddressBook();
+            JsonSerializableAddressBook.addMembers(addressBook, interleave(directory,
+                    parse(shards.memberShards, JsonAdaptedMember[].class), readManifest.memberOrder));
+            JsonSerializableAddressBook.addEvents(addressBook, interleave(directory,
+                    parse(shards.eventShards, JsonAdaptedEvent[].class), readManifest.eventOrder));
+            if (filePath.equals(this.filePath)) {
+                manifest = readManifest;
+                saved = shards;
+            }
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directory + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from address book shards " + directory + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    /**
+     * Parses the records of each of {@code shards}, several shards at a time.
+     */
+    private static <T> List<List<T>> parse(String[] shards, Class<T[]> recordsClass) throws IOException {
+        try {
+            return Arrays.stream(shards).parallel()
+                    .map(shard -> shard == null ? Collections.<T>emptyList() : parseShard(shard, recordsClass))
+                    .collect(Collectors.toList());
+        } catch (UncheckedIOException uioe) {
+            throw uioe.getCause();
+        }
+    }
+
+    private static <T> List<T> parseShard(String shard, Class<T[]> recordsClass) {
+        try {
+            return Arrays.asList(JsonUtil.fromJsonString(shard, recordsClass));
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    /**
+     * Returns the records of {@code shards} in list order, taking the next record of shard {@code order[i]} as the
+     * record at index {@code i}.
+     *
+     * @throws IllegalValueException if the number of records in the shards does not match {@code order}.
+     */
+    private static <T> List<T> interleave(Path directory, List<List<T>> shards, int[] order)
+            throws IllegalValueException {
+        List<Iterator<T>> records = shards.stream().map(List::iterator).collect(Collectors.toList());
+        List<T> ordered = new ArrayList<>(order.length);
+        for (int shard : order) {
+            if (shard < 0 || shard >= records.size() || !records.get(shard).hasNext()) {
+                throw new IllegalValueException(String.format(MESSAGE_MANIFEST_MISMATCH, directory));
+            }
+            ordered.add(records.get(shard).next());
+        }
+        if (records.stream().anyMatch(Iterator::hasNext)) {
+            throw new IllegalValueException(String.format(MESSAGE_MANIFEST_MISMATCH, directory));
+        }
+        return ordered;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * A {@code filePath} other than the one this storage was created with has all of its shards written.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Path directory = getShardDirectory(filePath);
+        boolean isKnown = filePath.equals(this.filePath) && manifest != null;
+        int count = isKnown ? manifest.memberFiles.length : shardCount;
+        Shards shards = Shards.of(addressBook, count);
+
+        Manifest next = Manifest.empty(count);
+        next.generation = (isKnown ? manifest.generation : readGeneration(directory)) + 1;
+        next.memberOrder = shards.memberOrder;
+        next.eventOrder = shards.eventOrder;
+        Shards previous = isKnown ? saved : new Shards(count);
+        Manifest previousManifest = isKnown ? manifest : Manifest.empty(count);
+        Files.createDirectories(directory);
+        for (int i = 0; i < count; i++) {
+            next.memberFiles[i] = writeShard(directory, MEMBER_SHARD_PREFIX, i, next.generation,
+                    shards.memberShards[i], previous.memberShards[i], previousManifest.memberFiles[i]);
+            next.eventFiles[i] = writeShard(directory, EVENT_SHARD_PREFIX, i, next.generation,
+                    shards.eventShards[i], previous.eventShards[i], previousManifest.eventFiles[i]);
+        }
+        if (isKnown && next.hasSameLayout(manifest)) {
+            return;
+        }
+
+        writeAtomically(directory.resolve(MANIFEST_FILE_NAME), JsonUtil.toJsonString(next));
+        deleteUnlistedShards(directory, next);
+        if (filePath.equals(this.filePath)) {
+            manifest = next;
+            saved = shards;
+        }
+    }
+
+    /**
+     * Writes {@code content} as shard {@code index} of the given generation, unless it is the same as
+     * {@code savedContent}, which is in {@code savedFile}.
+     *
+     * @return the name of the file holding the shard, or null if the shard is empty.
+     */
+    private String writeShard(Path directory, String prefix, int index, long generation, String content,
+                              String savedContent, String savedFile) throws IOException {
+        if (content == null) {
+            return null;
+        }
+        if (content.equals(savedContent)) {
+            return savedFile;
+        }
+        String fileName = String.format(SHARD_FILE_FORMAT, prefix, index, generation);
+        writeAtomically(directory.resolve(fileName), content);
+        return fileName;
+    }
+
+    private void writeAtomically(Path path, String content) throws IOException {
+        fileWriter.write(path, content.getBytes(UTF_8));
+    }
+
+    /**
+     * Returns the generation of the manifest in {@code directory}, or 0 if there is none that can be read.
+     * New shard files are named after the next generation, so that they never replace a file that is listed.
+     */
+    private static long readGeneration(Path directory) {
+        Path manifestPath = directory.resolve(MANIFEST_FILE_NAME);
+        if (!Files.exists(manifestPath)) {
+            return 0;
+        }
+        try {
+            return JsonUtil.fromJsonString(FileUtil.readFromFile(manifestPath), Manifest.class).generation;
+        } catch (IOException ioe) {
+            logger.warning("Could not read the manifest " + manifestPath + ": " + ioe);
+            return 0;
+        }
+    }
+
+    /**
+     * Deletes the shard files in {@code directory} that {@code manifest} does not list, such as those replaced by the
+     * last save, or left behind by a save that did not complete.
+     */
+    private static void deleteUnlistedShards(Path directory, Manifest manifest) throws IOException {
+        Set<String> listed = Stream.concat(Arrays.stream(manifest.memberFiles), Arrays.stream(manifest.eventFiles))
+                .collect(Collectors.toCollection(HashSet::new));
+        List<Path> unlisted;
+        try (Stream<Path> files = Files.list(directory)) {
+            unlisted = files.filter(file -> {
+                String fileName = file.getFileName().toString();
+                return (fileName.startsWith(MEMBER_SHARD_PREFIX) || fileName.startsWith(EVENT_SHARD_PREFIX))
+                        && !listed.contains(fileName);
+            }).collect(Collectors.toList());
+        }
+        for (Path file : unlisted) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * The manifest of a shard directory. Jackson reads and writes its fields directly.
+     */
+    private static class Manifest {
+        private int schemaVersion = JsonSerializableAddressBook.SCHEMA_VERSION;
+        private long generation;
+        /** The file of each member shard, or null for an empty shard. */
+        private String[] memberFiles;
+        private String[] eventFiles;
+        /** The shard of each member, in the order of the member list. */
+        private int[] memberOrder;
+        private int[] eventOrder;
+
+        static Manifest empty(int count) {
+            Manifest manifest = new Manifest();
+            manifest.memberFiles = new String[count];
+            manifest.eventFiles = new String[count];
+            manifest.memberOrder = new int[0];
+            manifest.eventOrder = new int[0];
+            return manifest;
+        }
+
+        boolean isComplete() {
+            return memberFiles != null && eventFiles != null && memberFiles.length == eventFiles.length
+                    && memberFiles.length > 0 && memberOrder != null && eventOrder != null;
+        }
+
+        boolean hasSameLayout(Manifest other) {
+            return Arrays.equals(memberFiles, other.memberFiles)
+                    && Arrays.equals(eventFiles, other.eventFiles)
+                    && Arrays.equals(memberOrder, other.memberOrder)
+                    && Arrays.equals(eventOrder, other.eventOrder);
+        }
+    }
+
+    /**
+     * The content of each shard of an address book, and the shard of each member and event in list order.
+     * The content of an empty shard is null.
+     */
+    private static class Shards {
+        private final String[] memberShards;
+        private final String[] eventShards;
+        private int[] memberOrder;
+        private int[] eventOrder;
+
+        private Shards(int count) {
+            memberShards = new String[count];
+            eventShards = new String[count];
+        }
+
+        static Shards of(ReadOnlyAddressBook addressBook, int count) {
+            Shards shards = new Shards(count);
+            List<List<String>> members = newBuckets(count);
+            shards.memberOrder = new int[addressBook.getMemberList().size()];
+            int index = 0;
+            for (Member member : addressBook.getMemberList()) {
+                int id = addressBook.getMemberId(member);
+                int shard = Math.floorMod(id, count);
+                members.get(shard).add(JsonUtil.toJsonTree(new JsonAdaptedMember(member, id)).toString());
+                shards.memberOrder[index++] = shard;
+            }
+
+            Set<Name> memberNames = JsonSerializableAddressBook.memberNamesOf(addressBook);
+            List<List<String>> events = newBuckets(count);
+            shards.eventOrder = new int[addressBook.getEventList().size()];
+            index = 0;
+            for (Event event : addressBook.getEventList()) {
+                int shard = Math.floorMod((event.getName().fullName + " " + event.getDate()).hashCode(), count);
+                events.get(shard).add(JsonUtil.toJsonTree(new JsonAdaptedEvent(event, memberNames)).toString());
+                shards.eventOrder[index++] = shard;
+            }
+
+            for (int i = 0; i < count; i++) {
+                shards.memberShards[i] = toShardContent(members.get(i));
+                shards.eventShards[i] = toShardContent(events.get(i));
+            }
+            return shards;
+        }
+
+        /**
+         * Reads the shards listed by {@code manifest} from {@code directory}, several at a time.
+         */
+        static Shards read(Path directory, Manifest manifest) throws IOException {
+            int count = manifest.memberFiles.length;
+            Shards shards = new Shards(count);
+            shards.memberOrder = manifest.memberOrder;
+            shards.eventOrder = manifest.eventOrder;
+            try {
+                IntStream.range(0, 2 * count).parallel().forEach(i -> {
+                    String[] files = i < count ? manifest.memberFiles : manifest.eventFiles;
+                    String[] contents = i < count ? shards.memberShards : shards.eventShards;
+                    if (files[i % count] != null) {
+                        contents[i % count] = readShard(directory.resolve(files[i % count]));
+                    }
+                });
+            } catch (UncheckedIOException uioe) {
+                throw uioe.getCause();
+            }
+            return shards;
+        }
+
+        private static String readShard(Path file) {
+            try {
+                return FileUtil.readFromFile(file);
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        }
+
+        private static List<List<String>> newBuckets(int count) {
+            List<List<String>> buckets = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                buckets.add(new ArrayList<>());
+            }
+            return buckets;
+        }
+
+        private static String toShardContent(List<String> records) {
+            return records.isEmpty() ? null : "[" + String.join(",\n", records) + "]\n";
+        }
+    }
+
+}
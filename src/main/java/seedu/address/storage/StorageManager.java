@@ -7,6 +7,7 @@ import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.AtomicFileWriter;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -54,9 +55,28 @@ public class StorageManager implements Storage {
         return addressBookStorage.getAddressBookFilePath();
     }
 
+    /**
+     * Reads the address book file, or if it cannot be read, the newest of its backups that can be read.
+     *
+     * @throws DataConversionException if neither the file nor any of its backups is in the correct format.
+     */
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
-        return readAddressBook(addressBookStorage.getAddressBookFilePath());
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        try {
+            return readAddressBook(filePath);
+        } catch (DataConversionException e) {
+            for (Path backupPath : AtomicFileWriter.getExistingBackupPaths(filePath)) {
+                try {
+                    Optional<ReadOnlyAddressBook> backup = readAddressBook(backupPath);
+                    logger.warning("Data file " + filePath + " could not be read. Using the backup " + backupPath);
+                    return backup;
+                } catch (DataConversionException backupException) {
+                    logger.warning("Backup " + backupPath + " could not be read either");
+                }
+            }
+            throw e;
+        }
     }
 
     @Override
@@ -0,0 +1,98 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.AtomicFileWriter.SyncPolicy;
+
+public class AtomicFileWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_missingFile_createdWithParentDirectories() throws Exception {
+        Path file = testFolder.resolve("data").resolve("file.txt");
+        new AtomicFileWriter(SyncPolicy.FULL, 2).write(file, "content".getBytes());
+
+        assertEquals("content", read(file));
+        assertEquals(Arrays.asList("file.txt"), listFileNames(file.getParent()));
+    }
+
+    @Test
+    public void write_existingFile_backupsRotated() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        AtomicFileWriter writer = new AtomicFileWriter(SyncPolicy.NONE, 2);
+        for (String content : new String[] {"first", "second", "third", "fourth"}) {
+            writer.write(file, content.getBytes());
+        }
+
+        assertEquals("fourth", read(file));
+        assertEquals(Arrays.asList(AtomicFileWriter.getBackupPath(file, 1), AtomicFileWriter.getBackupPath(file, 2)),
+                AtomicFileWriter.getExistingBackupPaths(file));
+        assertEquals("third", read(AtomicFileWriter.getBackupPath(file, 1)));
+        assertEquals("second", read(AtomicFileWriter.getBackupPath(file, 2)));
+        assertEquals(Arrays.asList("file.txt", "file.txt.bak1", "file.txt.bak2"), listFileNames(testFolder));
+    }
+
+    @Test
+    public void write_noBackups_onlyFileKept() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        AtomicFileWriter.DEFAULT.write(file, "first".getBytes());
+        AtomicFileWriter.DEFAULT.write(file, "second".getBytes());
+
+        assertEquals("second", read(file));
+        assertEquals(Arrays.asList("file.txt"), listFileNames(testFolder));
+    }
+
+    @Test
+    public void write_newFile_samePermissionsAsOtherNewFiles() throws Exception {
+        if (!FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            return;
+        }
+        Path file = testFolder.resolve("file.txt");
+        AtomicFileWriter.DEFAULT.write(file, "content".getBytes());
+
+        Path otherFile = Files.createFile(testFolder.resolve("other.txt"));
+        assertEquals(Files.getPosixFilePermissions(otherFile), Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void write_contentWriterFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        AtomicFileWriter writer = new AtomicFileWriter(SyncPolicy.FILE, 1);
+        writer.write(file, "saved".getBytes());
+
+        AtomicFileWriter.ContentWriter failingWriter = channel -> {
+            channel.write(ByteBuffer.wrap("partly written".getBytes()));
+            throw new IOException("Disk full");
+        };
+        assertThrows(IOException.class, () -> writer.write(file, failingWriter));
+
+        assertEquals("saved", read(file));
+        assertEquals(Arrays.asList("file.txt"), listFileNames(testFolder));
+    }
+
+    private static String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file));
+    }
+
+    private static List<String> listFileNames(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).sorted().collect(Collectors.toList());
+        }
+    }
+}
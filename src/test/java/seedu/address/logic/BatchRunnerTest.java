@@ -0,0 +1,103 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.PaddCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class BatchRunnerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+    private StorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+    }
+
+    @Test
+    public void run_scriptWithErrors_otherLinesRunAndErrorsReported() throws Exception {
+        BatchRunner.Report report = run(0,
+                "# onboarding",
+                "padd /n Amy Bee /p 11111111",
+                "",
+                "unknown command",
+                "padd /n Amy Bee /p 11111111",
+                "padd /n Bob Choo /p 22222222");
+
+        assertEquals(4, report.getCommandCount());
+        assertEquals(1, report.getSaveCount());
+        assertEquals(2, model.getAddressBook().getMemberList().size());
+
+        assertEquals(2, report.getErrors().size());
+        assertEquals(4, report.getErrors().get(0).getLineNumber());
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, report.getErrors().get(0).getMessage());
+        assertEquals(5, report.getErrors().get(1).getLineNumber());
+        assertEquals(PaddCommand.MESSAGE_DUPLICATE_MEMBER, report.getErrors().get(1).getMessage());
+
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void run_checkpoints_savedOnlyAfterChanges() throws Exception {
+        BatchRunner.Report report = run(2,
+                "padd /n Amy Bee /p 11111111",
+                "padd /n Bob Choo /p 22222222",
+                "list",
+                "list",
+                "padd /n Cat Dee /p 33333333");
+
+        // after lines 2 and 5; nothing changed between lines 3 and 4
+        assertEquals(2, report.getSaveCount());
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void run_noChanges_nothingSaved() throws Exception {
+        BatchRunner.Report report = run(1, "list", "help");
+
+        assertEquals(0, report.getSaveCount());
+        assertTrue(report.getErrors().isEmpty());
+        assertFalse(Files.exists(storage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void run_exitCommand_restSkipped() throws Exception {
+        BatchRunner.Report report = run(0,
+                "padd /n Amy Bee /p 11111111",
+                "exit",
+                "padd /n Bob Choo /p 22222222");
+
+        assertEquals(2, report.getCommandCount());
+        assertEquals(1, model.getAddressBook().getMemberList().size());
+        assertEquals(1, report.getSaveCount());
+    }
+
+    private BatchRunner.Report run(int checkpointInterval, String... lines) throws Exception {
+        String script = Arrays.stream(lines).collect(Collectors.joining("\n"));
+        return new BatchRunner(model, storage, checkpointInterval).run(new BufferedReader(new StringReader(script)));
+    }
+}
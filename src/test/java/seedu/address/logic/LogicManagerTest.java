@@ -6,12 +6,19 @@ import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalMembers.AMY;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,6 +29,7 @@ import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.PaddCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -89,6 +97,86 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        CountingAddressBookStorage addressBookStorage =
+                new CountingAddressBookStorage(temporaryFolder.resolve("countingAddressBook.json"));
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("countingUserPrefs.json")));
+        logic = new LogicManager(model, storage);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, addressBookStorage.saveCount);
+
+        logic.execute(PaddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY);
+        assertEquals(1, addressBookStorage.saveCount);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, addressBookStorage.saveCount);
+    }
+
+    @Test
+    public void execute_writeBehind_savesBurstOnce() throws Exception {
+        CountingAddressBookStorage addressBookStorage =
+                new CountingAddressBookStorage(temporaryFolder.resolve("writeBehindAddressBook.json"));
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("writeBehindUserPrefs.json")));
+        logic = new LogicManager(model, storage, 60_000);
+
+        logic.execute(PaddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(PaddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB);
+        assertEquals(0, addressBookStorage.saveCount);
+
+        logic.flush();
+        assertEquals(1, addressBookStorage.saveCount);
+        assertEquals(new AddressBook(model.getAddressBook()), addressBookStorage.readAddressBook().get());
+
+        logic.flush();
+        assertEquals(1, addressBookStorage.saveCount);
+    }
+
+    @Test
+    public void execute_writeBehindBurst_copiesAddressBookOnce() throws Exception {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("copyCountAddressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("copyCountUserPrefs.json")));
+        List<ReadOnlyAddressBook> copies = new ArrayList<>();
+        UnaryOperator<ReadOnlyAddressBook> countingCopier = addressBook -> {
+            AddressBook copy = AddressBook.detachedCopyOf(addressBook);
+            copies.add(copy);
+            return copy;
+        };
+        logic = new LogicManager(model, storage, 60_000, countingCopier);
+
+        logic.execute(PaddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(PaddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB);
+        assertEquals(0, copies.size());
+
+        logic.flush();
+        logic.flush();
+        assertEquals(1, copies.size());
+        assertEquals(model.getAddressBook(), copies.get(0));
+    }
+
+    @Test
+    public void execute_writeBehindStorageThrowsIoException_reportsFailureInBackground() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json")));
+        logic = new LogicManager(model, storage, 0);
+        CompletableFuture<String> failureMessage = new CompletableFuture<>();
+        logic.setSaveFailureHandler(failureMessage::complete);
+
+        logic.execute(PaddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY);
+
+        assertEquals(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION,
+                failureMessage.get(10, TimeUnit.SECONDS));
+        assertThrows(IOException.class, () -> logic.flush());
+    }
+
     @Test
     public void getFilteredMemberList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredMemberList().remove(0));
@@ -152,6 +240,23 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * A stub class that counts how many times the address book is saved.
+     */
+    private static class CountingAddressBookStorage extends JsonAddressBookStorage {
+        private int saveCount;
+
+        private CountingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
     /**
      * A stub class to throw an {@code IOException} when the save method is called.
      */
@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_EVENTS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalEvents.BILLIARDS;
+import static seedu.address.testutil.TypicalEvents.ICEBREAKER;
+import static seedu.address.testutil.TypicalEvents.OSMANTHUS_WINE;
+import static seedu.address.testutil.TypicalEvents.PERFORMANCE;
+import static seedu.address.testutil.TypicalEvents.RUMBLING;
+import static seedu.address.testutil.TypicalEvents.getTypicalAddressBookWithEvents;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ElistdCommand}.
+ */
+public class ElistdCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBookWithEvents(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBookWithEvents(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        ElistdCommand novemberCommand = new ElistdCommand(LocalDate.of(2022, 11, 1), LocalDate.of(2022, 11, 30),
+                ElistdCommand.NO_LIMIT);
+        ElistdCommand nextTwoCommand = new ElistdCommand(LocalDate.of(2022, 11, 1), LocalDate.MAX, 2);
+
+        assertTrue(novemberCommand.equals(novemberCommand));
+        assertTrue(novemberCommand.equals(new ElistdCommand(LocalDate.of(2022, 11, 1), LocalDate.of(2022, 11, 30),
+                ElistdCommand.NO_LIMIT)));
+        assertFalse(novemberCommand.equals(1));
+        assertFalse(novemberCommand.equals(null));
+        assertFalse(novemberCommand.equals(nextTwoCommand));
+    }
+
+    @Test
+    public void execute_range_showsEventsInRange() {
+        ElistdCommand command = new ElistdCommand(LocalDate.of(2022, 11, 1), LocalDate.of(2022, 11, 30),
+                ElistdCommand.NO_LIMIT);
+        expectedModel.updateFilteredEventList(event -> event.getDate().eventDate.getMonthValue() == 11
+                && event.getDate().eventDate.getYear() == 2022);
+        assertCommandSuccess(command, model, String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 4), expectedModel);
+        assertEquals(Arrays.asList(ICEBREAKER, RUMBLING, OSMANTHUS_WINE, BILLIARDS), model.getFilteredEventList());
+    }
+
+    @Test
+    public void execute_countFromDate_showsEarliestEvents() {
+        ElistdCommand command = new ElistdCommand(LocalDate.of(2022, 11, 10), LocalDate.MAX, 3);
+        expectedModel.updateFilteredEventList(event -> Arrays.asList(ICEBREAKER, OSMANTHUS_WINE, BILLIARDS)
+                .contains(event));
+        assertCommandSuccess(command, model, String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 3), expectedModel);
+    }
+
+    @Test
+    public void execute_countWithinRange_stopsAtEndDate() {
+        ElistdCommand command = new ElistdCommand(LocalDate.of(2022, 11, 22), LocalDate.of(2022, 12, 5), 5);
+        expectedModel.updateFilteredEventList(event -> event.equals(PERFORMANCE));
+        assertCommandSuccess(command, model, String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 1), expectedModel);
+    }
+}
@@ -7,10 +7,15 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 
@@ -23,6 +28,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.module.event.Event;
 import seedu.address.model.module.member.Member;
+import seedu.address.model.module.member.position.Position;
 import seedu.address.model.module.task.Task;
 import seedu.address.testutil.MemberBuilder;
 
@@ -136,6 +142,31 @@ public class PaddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isInTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasMember(Member member) {
             throw new AssertionError("This method should not be called.");
@@ -146,6 +177,56 @@ public class PaddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Event> getEventsOf(Member member) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getEventsBetween(LocalDate start, LocalDate end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Event> getEventOnOrBefore(LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Event> getEventOnOrAfter(LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getUpcomingEvents(LocalDate from, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Member> getMembersWithPositions(List<Set<Position>> clauses) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Member> findMembersByName(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int estimateMembersByName(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int countMembersWithPosition(Position position) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Event> findEventsByName(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteMember(Member target) {
             throw new AssertionError("This method should not be called.");
@@ -176,6 +257,12 @@ public class PaddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredMemberList(Predicate<Member> predicate,
+                Supplier<? extends Collection<Member>> search) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Event> getFilteredEventList() {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,81 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_MEMBERS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BENSON;
+import static seedu.address.testutil.TypicalMembers.DANIEL;
+import static seedu.address.testutil.TypicalMembers.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.module.member.position.Position;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code PfindCommand}.
+ */
+public class PfindCommandTest {
+    private static final Position FRIENDS = new Position("friends");
+    private static final Position OWES_MONEY = new Position("owesMoney");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        PfindCommand friendsCommand = new PfindCommand(List.of(Set.of(FRIENDS)));
+        PfindCommand friendsOrOwesMoneyCommand = new PfindCommand(List.of(Set.of(FRIENDS), Set.of(OWES_MONEY)));
+
+        // same object -> returns true
+        assertTrue(friendsCommand.equals(friendsCommand));
+
+        // same values -> returns true
+        assertTrue(friendsCommand.equals(new PfindCommand(List.of(Set.of(FRIENDS)))));
+
+        // different types -> returns false
+        assertFalse(friendsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(friendsCommand.equals(null));
+
+        // different positions -> returns false
+        assertFalse(friendsCommand.equals(friendsOrOwesMoneyCommand));
+    }
+
+    @Test
+    public void execute_unknownPosition_noMemberFound() {
+        String expectedMessage = String.format(MESSAGE_MEMBERS_LISTED_OVERVIEW, 0);
+        PfindCommand command = new PfindCommand(List.of(Set.of(new Position("President"))));
+        expectedModel.updateFilteredMemberList(member -> false);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(), model.getFilteredMemberList());
+    }
+
+    @Test
+    public void execute_singlePosition_multipleMembersFound() {
+        String expectedMessage = String.format(MESSAGE_MEMBERS_LISTED_OVERVIEW, 3);
+        PfindCommand command = new PfindCommand(List.of(Set.of(FRIENDS)));
+        expectedModel.updateFilteredMemberList(member -> member.getPositions().contains(FRIENDS));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredMemberList());
+    }
+
+    @Test
+    public void execute_allPositions_intersectionFound() {
+        String expectedMessage = String.format(MESSAGE_MEMBERS_LISTED_OVERVIEW, 1);
+        PfindCommand command = new PfindCommand(List.of(Set.of(FRIENDS, OWES_MONEY)));
+        expectedModel.updateFilteredMemberList(BENSON::equals);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(BENSON), model.getFilteredMemberList());
+    }
+}
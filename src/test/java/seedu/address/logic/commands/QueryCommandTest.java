@@ -0,0 +1,130 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_EVENT_DISPLAYED_INDEX;
+import static seedu.address.commons.core.Messages.MESSAGE_MEMBERS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BENSON;
+import static seedu.address.testutil.TypicalMembers.DANIEL;
+import static seedu.address.testutil.TypicalMembers.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.query.AndQuery;
+import seedu.address.logic.query.EventQuery;
+import seedu.address.logic.query.NotQuery;
+import seedu.address.logic.query.PositionQuery;
+import seedu.address.logic.query.Query;
+import seedu.address.logic.query.TaskQuery;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.module.member.Member;
+import seedu.address.model.module.member.position.Position;
+import seedu.address.testutil.EventBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code QueryCommand}.
+ */
+public class QueryCommandTest {
+    private static final Index FIRST_EVENT = Index.fromOneBased(1);
+    private static final Query FRIENDS = new PositionQuery(new Position("friends"));
+    private static final Query NO_TASK_DONE = new NotQuery(new TaskQuery(true));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @BeforeEach
+    public void setUp() {
+        // Alice and Benson attended, Daniel did not
+        Map<Member, Boolean> participants = Map.of(ALICE, true, BENSON, true, DANIEL, false);
+        model.addEvent(new EventBuilder().withParticipants(participants).build());
+        expectedModel.addEvent(new EventBuilder().withParticipants(participants).build());
+    }
+
+    @Test
+    public void equals() {
+        QueryCommand friendsCommand = new QueryCommand(FRIENDS, false);
+
+        // same values -> returns true
+        assertTrue(friendsCommand.equals(new QueryCommand(new PositionQuery(new Position("friends")), false)));
+
+        // null -> returns false
+        assertFalse(friendsCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(friendsCommand.equals(new QueryCommand(NO_TASK_DONE, false)));
+
+        // explained -> returns false
+        assertFalse(friendsCommand.equals(new QueryCommand(FRIENDS, true)));
+    }
+
+    @Test
+    public void execute_compoundQuery_membersFound() {
+        Query query = new AndQuery(List.of(FRIENDS, new EventQuery(FIRST_EVENT, true), NO_TASK_DONE));
+        String expectedMessage = String.format(MESSAGE_MEMBERS_LISTED_OVERVIEW, 2);
+        expectedModel.updateFilteredMemberList(member -> member == ALICE || member == BENSON);
+        assertCommandSuccess(new QueryCommand(query, false), model, expectedMessage, expectedModel);
+        assertEquals(List.of(ALICE, BENSON), model.getFilteredMemberList());
+    }
+
+    @Test
+    public void execute_explain_smallestIndexUsed() {
+        Query query = new AndQuery(List.of(FRIENDS, new EventQuery(FIRST_EVENT, true), NO_TASK_DONE));
+        String expectedMessage = String.format(MESSAGE_MEMBERS_LISTED_OVERVIEW, 2)
+                + "\nCandidates: attendees of " + EventBuilder.DEFAULT_NAME + " (2 members)"
+                + "\nFilter: position=friends AND attended(event 1) AND NOT task:done";
+        expectedModel.updateFilteredMemberList(member -> member == ALICE || member == BENSON);
+        assertCommandSuccess(new QueryCommand(query, true), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_explainWithoutIndex_allMembersScanned() {
+        String expectedMessage = String.format(MESSAGE_MEMBERS_LISTED_OVERVIEW, 8)
+                + "\nCandidates: scan of all members (8 members)"
+                + "\nFilter: NOT task:done";
+        assertCommandSuccess(new QueryCommand(NO_TASK_DONE, true), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_explainRepeatedQuery_cachedResultsShown() throws Exception {
+        new QueryCommand(FRIENDS, false).execute(model);
+        CommandResult result = new QueryCommand(FRIENDS, true).execute(model);
+        assertEquals(String.format(MESSAGE_MEMBERS_LISTED_OVERVIEW, 3) + "\n"
+                + String.format(QueryCommand.MESSAGE_CACHED_RESULTS, "position=friends"), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_invalidEventIndex_throwsCommandException() {
+        Query query = new EventQuery(Index.fromOneBased(2), false);
+        assertCommandFailure(new QueryCommand(query, false), model, MESSAGE_INVALID_EVENT_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_repeatedQuery_indexNotLookedUpAgain() throws Exception {
+        List<List<Set<Position>>> lookups = new ArrayList<>();
+        Model countingModel = new ModelManager(getTypicalAddressBook(), new UserPrefs()) {
+            @Override
+            public List<Member> getMembersWithPositions(List<Set<Position>> clauses) {
+                lookups.add(clauses);
+                return super.getMembersWithPositions(clauses);
+            }
+        };
+
+        new QueryCommand(FRIENDS, false).execute(countingModel);
+        new QueryCommand(FRIENDS, false).execute(countingModel);
+        assertEquals(1, lookups.size());
+        assertEquals(List.of(ALICE, BENSON, DANIEL), countingModel.getFilteredMemberList());
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ElistdCommand;
+import seedu.address.model.module.event.EventDate;
+
+public class ElistdCommandParserTest {
+
+    private ElistdCommandParser parser = new ElistdCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ElistdCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_nonEmptyPreamble_throwsParseException() {
+        assertParseFailure(parser, " soon /next 3",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ElistdCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_range_returnsElistdCommand() {
+        ElistdCommand expectedCommand = new ElistdCommand(LocalDate.of(2022, 11, 1), LocalDate.of(2022, 11, 7),
+                ElistdCommand.NO_LIMIT);
+        assertParseSuccess(parser, " /from 01/11/2022 /to 07/11/2022", expectedCommand);
+        assertParseSuccess(parser, " /to 07/11/2022 \n /from 01/11/2022", expectedCommand);
+    }
+
+    @Test
+    public void parse_countOnly_startsToday() {
+        assertParseSuccess(parser, " /next 5", new ElistdCommand(LocalDate.now(), LocalDate.MAX, 5));
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertParseFailure(parser, " /from 32/01/2022", EventDate.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " /next 0", ParserUtil.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " /from 07/11/2022 /to 01/11/2022", ElistdCommandParser.MESSAGE_START_AFTER_END);
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.PfindCommand;
+import seedu.address.model.module.member.position.Position;
+
+public class PfindCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, PfindCommand.MESSAGE_USAGE);
+
+    private PfindCommandParser parser = new PfindCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_danglingOperator_throwsParseException() {
+        assertParseFailure(parser, "and Treasurer", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "Treasurer or", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "Treasurer and or President", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidPosition_throwsParseException() {
+        assertParseFailure(parser, "Treasurer and Vice-President", Position.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsPfindCommand() {
+        Position treasurer = new Position("Treasurer");
+        Position logistics = new Position("Logistics");
+        Position president = new Position("President");
+
+        assertParseSuccess(parser, " Treasurer ", new PfindCommand(List.of(Set.of(treasurer))));
+        assertParseSuccess(parser, "Treasurer AND Logistics or President",
+                new PfindCommand(List.of(Set.of(treasurer, logistics), Set.of(president))));
+        assertParseSuccess(parser, "President \n Treasurer and Logistics",
+                new PfindCommand(List.of(Set.of(president), Set.of(treasurer, logistics))));
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.query.AndQuery;
+import seedu.address.logic.query.EventQuery;
+import seedu.address.logic.query.FieldQuery;
+import seedu.address.logic.query.FieldQuery.Field;
+import seedu.address.logic.query.NotQuery;
+import seedu.address.logic.query.OrQuery;
+import seedu.address.logic.query.PositionQuery;
+import seedu.address.logic.query.TaskQuery;
+import seedu.address.model.module.member.position.Position;
+
+public class QueryCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE);
+
+    private static final PositionQuery TREASURER = new PositionQuery(new Position("Treasurer"));
+    private static final FieldQuery NAME_ALEX = new FieldQuery(Field.NAME, "alex");
+    private static final TaskQuery TASK_DONE = new TaskQuery(true);
+    private static final Index THIRD_EVENT = Index.fromOneBased(3);
+
+    private QueryCommandParser parser = new QueryCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "explain", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidExpression_throwsParseException() {
+        assertParseFailure(parser, "position=Treasurer AND", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "(position=Treasurer", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "position=Treasurer name=alex", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "height=2", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "name=", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "task:started", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "attended(3)", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "position=Vice-President", Position.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsQueryCommand() {
+        EventQuery attendedThird = new EventQuery(THIRD_EVENT, true);
+        assertParseSuccess(parser, "position=Treasurer AND attended(event 3) AND NOT task:done",
+                new QueryCommand(new AndQuery(List.of(TREASURER, attendedThird, new NotQuery(TASK_DONE))), false));
+
+        // NOT before AND before OR, operators ignore case
+        assertParseSuccess(parser, "explain name=alex or not position=Treasurer and task:done",
+                new QueryCommand(new OrQuery(List.of(NAME_ALEX,
+                        new AndQuery(List.of(new NotQuery(TREASURER), TASK_DONE)))), true));
+
+        // parentheses
+        assertParseSuccess(parser, " NOT (name=alex OR in(event 3))",
+                new QueryCommand(new NotQuery(new OrQuery(List.of(NAME_ALEX,
+                        new EventQuery(THIRD_EVENT, false)))), false));
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.logic.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BENSON;
+import static seedu.address.testutil.TypicalMembers.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.query.FieldQuery.Field;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class FieldQueryTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void test_namePartOfWord_matches() {
+        FieldQuery query = new FieldQuery(Field.NAME, "ali");
+        assertTrue(query.test(ALICE));
+        assertFalse(query.test(BENSON));
+        assertEquals(List.of(ALICE), QueryPlan.of(query, model).execute());
+    }
+
+    @Test
+    public void test_nameAcrossWords_doesNotMatch() {
+        assertTrue(new FieldQuery(Field.NAME, "PAULINE").test(ALICE));
+        assertFalse(new FieldQuery(Field.NAME, "alicepauline").test(ALICE));
+    }
+
+    @Test
+    public void test_otherFieldContainsValue_matches() {
+        assertTrue(new FieldQuery(Field.PHONE, ALICE.getPhone().value.substring(2, 5)).test(ALICE));
+        assertFalse(new FieldQuery(Field.PHONE, "000000000").test(ALICE));
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.logic.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BENSON;
+import static seedu.address.testutil.TypicalMembers.DANIEL;
+import static seedu.address.testutil.TypicalMembers.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.query.FieldQuery.Field;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.module.member.Member;
+import seedu.address.model.module.member.position.Position;
+
+public class QueryPlanTest {
+    private static final Query FRIENDS = new PositionQuery(new Position("friends"));
+    private static final Query OWES_MONEY = new PositionQuery(new Position("owesMoney"));
+    private static final Query NAME_MEIER = new FieldQuery(Field.NAME, "meier");
+    private static final Query PHONE_948 = new FieldQuery(Field.PHONE, "948");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void of_and_smallestIndexUsed() {
+        QueryPlan plan = QueryPlan.of(new AndQuery(List.of(NAME_MEIER, FRIENDS, OWES_MONEY)), model);
+        assertTrue(plan.usesIndex());
+        assertEquals("Candidates: position index for position=owesMoney (1 members)\n"
+                + "Filter: name=meier AND position=friends AND position=owesMoney", plan.toString());
+        assertEquals(List.of(BENSON), plan.execute());
+    }
+
+    @Test
+    public void of_orOfIndexedQueries_unionUsed() {
+        QueryPlan plan = QueryPlan.of(new OrQuery(List.of(NAME_MEIER, OWES_MONEY)), model);
+        assertTrue(plan.usesIndex());
+        assertEquals(Set.of(BENSON, DANIEL), new HashSet<>(plan.execute()));
+    }
+
+    @Test
+    public void of_unindexedQuery_allMembersScanned() {
+        assertFalse(QueryPlan.of(new OrQuery(List.of(FRIENDS, PHONE_948)), model).usesIndex());
+        assertFalse(QueryPlan.of(new NotQuery(FRIENDS), model).usesIndex());
+
+        QueryPlan plan = QueryPlan.of(new AndQuery(List.of(FRIENDS, new NotQuery(OWES_MONEY))), model);
+        assertTrue(plan.usesIndex());
+        assertEquals(List.of(ALICE, DANIEL), plan.execute());
+    }
+
+    @Test
+    public void estimateCandidates_compoundQueries_boundsFromOperands() {
+        Query meierFriendsOwingMoney = new AndQuery(List.of(NAME_MEIER, FRIENDS, OWES_MONEY));
+        assertEquals(OptionalInt.of(1), meierFriendsOwingMoney.estimateCandidates(model));
+        assertEquals(OptionalInt.of(5), new OrQuery(List.of(NAME_MEIER, FRIENDS)).estimateCandidates(model));
+        assertEquals(OptionalInt.empty(), new OrQuery(List.of(FRIENDS, PHONE_948)).estimateCandidates(model));
+        assertEquals(OptionalInt.empty(), new NotQuery(FRIENDS).estimateCandidates(model));
+    }
+
+    @Test
+    public void execute_and_onlyChosenIndexLookedUp() {
+        List<String> lookups = new ArrayList<>();
+        Model countingModel = new ModelManager(getTypicalAddressBook(), new UserPrefs()) {
+            @Override
+            public Set<Member> findMembersByName(List<String> keywords) {
+                lookups.add("name " + keywords);
+                return super.findMembersByName(keywords);
+            }
+
+            @Override
+            public List<Member> getMembersWithPositions(List<Set<Position>> clauses) {
+                lookups.add("positions " + clauses);
+                return super.getMembersWithPositions(clauses);
+            }
+        };
+
+        QueryPlan plan = QueryPlan.of(new AndQuery(List.of(NAME_MEIER, FRIENDS, OWES_MONEY)), countingModel);
+        assertTrue(plan.usesIndex());
+        assertEquals(List.of(), lookups);
+        assertFalse(plan.isExecuted());
+        assertEquals(List.of(BENSON), plan.execute());
+        assertTrue(plan.isExecuted());
+        assertEquals(List.of("positions [[[owesMoney]]]"), lookups);
+
+        // the lookup is kept for showing and executing the plan again
+        plan.toString();
+        assertEquals(List.of(BENSON), plan.execute());
+        assertEquals(1, lookups.size());
+    }
+}
@@ -2,17 +2,23 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_POSITION_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BOB;
+import static seedu.address.testutil.TypicalMembers.CARL;
 import static seedu.address.testutil.TypicalMembers.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,6 +27,8 @@ import javafx.collections.ObservableList;
 import seedu.address.model.module.event.Event;
 import seedu.address.model.module.member.Member;
 import seedu.address.model.module.member.exceptions.DuplicateMemberException;
+import seedu.address.model.module.task.Task;
+import seedu.address.testutil.EventBuilder;
 import seedu.address.testutil.MemberBuilder;
 
 public class AddressBookTest {
@@ -81,6 +89,180 @@ public class AddressBookTest {
         assertTrue(addressBook.hasMember(editedAlice));
     }
 
+    @Test
+    public void getEventsOf_nullMember_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> addressBook.getEventsOf(null));
+    }
+
+    @Test
+    public void getEventsOf_participantsAddedAndRemoved_tracksEvents() {
+        Event cycling = new EventBuilder().withParticipants(ALICE).build();
+        Event chess = new EventBuilder().withName("Chess").withParticipants(BOB).build();
+        addressBook.addEvent(cycling);
+        addressBook.addEvent(chess);
+        assertEquals(Collections.singletonList(cycling), addressBook.getEventsOf(ALICE));
+
+        addressBook.addEventMembers(chess, Set.of(ALICE));
+        assertEquals(Arrays.asList(cycling, chess), addressBook.getEventsOf(ALICE));
+
+        chess.removeParticipant(ALICE);
+        addressBook.removeEvent(cycling);
+        assertEquals(Collections.emptyList(), addressBook.getEventsOf(ALICE));
+        assertEquals(Collections.singletonList(chess), addressBook.getEventsOf(BOB));
+    }
+
+    @Test
+    public void setMember_memberInEvents_eventsSeeEditedMemberWithSameId() {
+        Event cycling = new EventBuilder().withParticipants(ALICE, BOB).build();
+        Event chess = new EventBuilder().withName("Chess").withParticipants(BOB).build();
+        addressBook.addMember(ALICE);
+        addressBook.addMember(BOB);
+        addressBook.addEvent(cycling);
+        addressBook.addEvent(chess);
+        int id = addressBook.getMemberId(ALICE);
+
+        Member renamedAlice = new MemberBuilder(ALICE).withName("Alicia Pauline").build();
+        addressBook.setMember(ALICE, renamedAlice);
+        assertEquals(id, addressBook.getMemberId(renamedAlice));
+        assertEquals(Collections.singletonList(cycling), addressBook.getEventsOf(renamedAlice));
+        assertEquals(Collections.emptyList(), addressBook.getEventsOf(ALICE));
+        assertEquals(Set.of(renamedAlice, BOB), cycling.getParticipants());
+        assertEquals(Set.of(BOB), chess.getParticipants());
+    }
+
+    @Test
+    public void setMember_renamedToNonMemberParticipant_mergesParticipant() {
+        Event cycling = new EventBuilder().withParticipants(ALICE).build();
+        Event chess = new EventBuilder().withName("Chess").withParticipants(BOB).build();
+        chess.markAttendanceForAll();
+        addressBook.addMember(ALICE);
+        addressBook.addEvent(cycling);
+        addressBook.addEvent(chess);
+
+        Member aliceAsBob = new MemberBuilder(BOB).build();
+        addressBook.setMember(ALICE, aliceAsBob);
+        assertEquals(addressBook.getMemberId(aliceAsBob), addressBook.getMemberId(BOB));
+        assertEquals(Arrays.asList(cycling, chess), addressBook.getEventsOf(BOB));
+        assertTrue(chess.hasAttended(BOB));
+    }
+
+    @Test
+    public void resetData_withValidReadOnlyAddressBook_keepsMemberIds() {
+        addressBook.addMember(ALICE, 1);
+        addressBook.addMember(BOB);
+        AddressBook copy = new AddressBook(addressBook);
+        assertEquals(1, copy.getMemberId(ALICE));
+        assertEquals(addressBook.getMemberId(BOB), copy.getMemberId(BOB));
+        assertTrue(copy.hasMemberId(1));
+    }
+
+    @Test
+    public void removeMember_memberInEvents_removedFromTheirEvents() {
+        Event cycling = new EventBuilder().withParticipants(ALICE, BOB).build();
+        addressBook.addMember(ALICE);
+        addressBook.addEvent(cycling);
+
+        addressBook.removeMember(ALICE);
+        assertEquals(Collections.emptyList(), addressBook.getEventsOf(ALICE));
+        assertEquals(Set.of(BOB), cycling.getParticipants());
+    }
+
+    @Test
+    public void removeMember_lowerIdThanOthers_otherMembersKeepIds() {
+        Event cycling = new EventBuilder().withParticipants(BOB, CARL).build();
+        addressBook.addMember(ALICE);
+        addressBook.addMember(BOB);
+        addressBook.addMember(CARL);
+        addressBook.addEvent(cycling);
+
+        int bobId = addressBook.getMemberId(BOB);
+        int carlId = addressBook.getMemberId(CARL);
+        addressBook.removeMember(ALICE);
+        assertEquals(carlId, addressBook.getMemberId(CARL));
+        assertEquals(bobId, addressBook.getMemberId(BOB));
+        assertEquals(Collections.singletonList(cycling), addressBook.getEventsOf(CARL));
+        assertEquals(Set.of(BOB, CARL), cycling.getParticipants());
+    }
+
+    @Test
+    public void addEvent_eventInAnotherAddressBook_doesNotShareParticipants() {
+        Event cycling = new EventBuilder().withParticipants(ALICE).build();
+        addressBook.addEvent(cycling);
+        AddressBook otherAddressBook = new AddressBook(addressBook);
+
+        cycling.addParticipant(BOB);
+        assertEquals(Collections.singletonList(cycling), addressBook.getEventsOf(BOB));
+        assertEquals(Collections.emptyList(), otherAddressBook.getEventsOf(BOB));
+        assertFalse(otherAddressBook.getEventList().get(0).isParticipatingInEvent(BOB));
+    }
+
+    @Test
+    public void detachedCopyOf_laterChanges_notSeenByCopy() {
+        Member alice = new MemberBuilder(ALICE).build();
+        addressBook.addMember(alice);
+        Event cycling = new EventBuilder().withParticipants(alice).build();
+        addressBook.addEvent(cycling);
+        AddressBook copy = AddressBook.detachedCopyOf(addressBook);
+        assertEquals(addressBook, copy);
+
+        alice.getTaskList().add(new Task("Buy helmets"));
+        cycling.addParticipant(BOB);
+        assertFalse(copy.getMemberList().get(0).getTaskList().contains(new Task("Buy helmets")));
+        assertFalse(copy.getEventList().get(0).isParticipatingInEvent(BOB));
+        assertEquals(addressBook.getMemberId(alice), copy.getMemberId(copy.getMemberList().get(0)));
+    }
+
+    @Test
+    public void detachedCopyOf_unchangedMember_copyReused() {
+        Member alice = new MemberBuilder(ALICE).build();
+        Member bob = new MemberBuilder(BOB).build();
+        addressBook.addMember(alice);
+        addressBook.addMember(bob);
+        AddressBook copy = AddressBook.detachedCopyOf(addressBook);
+
+        alice.getTaskList().add(new Task("Buy helmets"));
+        addressBook.markModified(alice);
+        AddressBook nextCopy = AddressBook.detachedCopyOf(addressBook);
+
+        assertNotSame(copy.getMemberList().get(0), nextCopy.getMemberList().get(0));
+        assertTrue(nextCopy.getMemberList().get(0).getTaskList().contains(new Task("Buy helmets")));
+        assertSame(copy.getMemberList().get(1), nextCopy.getMemberList().get(1));
+    }
+
+    @Test
+    public void markModified_member_listenersTold() {
+        Member alice = new MemberBuilder(ALICE).build();
+        addressBook.addMember(alice);
+        List<Object> changed = new ArrayList<>();
+        addressBook.addRecordListener(new AddressBook.RecordListener() {
+            @Override
+            public void memberChanged(Member member) {
+                changed.add(member);
+            }
+
+            @Override
+            public void eventChanged(Event event) {
+                changed.add(event);
+            }
+
+            @Override
+            public void allChanged() {
+                changed.add(addressBook);
+            }
+        });
+
+        long version = addressBook.getVersion();
+        addressBook.markModified(alice);
+        assertEquals(version + 1, addressBook.getVersion());
+        Event cycling = new EventBuilder().withParticipants(alice).build();
+        addressBook.addEvent(cycling);
+        addressBook.removeMember(alice);
+        addressBook.markModified();
+
+        Event addedCycling = addressBook.getEventList().get(0);
+        assertEquals(Arrays.asList(alice, addedCycling, alice, addedCycling, addressBook), changed);
+    }
+
     @Test
     public void getMemberList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getMemberList().remove(0));
@@ -105,6 +287,11 @@ public class AddressBookTest {
         public ObservableList<Event> getEventList() {
             return null;
         }
+
+        @Override
+        public int getMemberId(Member member) {
+            return members.indexOf(member);
+        }
     }
 
 }
@@ -0,0 +1,129 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.BADMINTON;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BENSON;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.module.NameContainsKeywordsPredicate;
+import seedu.address.model.module.member.Member;
+import seedu.address.testutil.MemberBuilder;
+
+public class FilterResultCacheTest {
+
+    private final AddressBook addressBook = new AddressBook();
+    private final FilterResultCache cache = new FilterResultCache(addressBook, 2);
+    private final Member alice = new MemberBuilder(ALICE).build();
+
+    @BeforeEach
+    public void setUp() {
+        addressBook.addMember(alice);
+        addressBook.addRecordListener(cache);
+    }
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FilterResultCache(addressBook, 0));
+    }
+
+    @Test
+    public void get_equalPredicate_cachedResultsReturned() {
+        Set<Member> results = matches(alice);
+        cache.put(predicate("alice"), results);
+        assertEquals(results, cache.get(predicate("alice")));
+        assertNull(cache.get(predicate("bob")));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void put_full_leastRecentlyUsedDropped() {
+        Set<Member> results = matches(alice);
+        cache.put(predicate("alice"), results);
+        cache.put(predicate("bob"), matches());
+        cache.get(predicate("alice"));
+        cache.put(predicate("carl"), matches());
+
+        assertEquals(2, cache.size());
+        assertEquals(results, cache.get(predicate("alice")));
+        assertNull(cache.get(predicate("bob")));
+    }
+
+    @Test
+    public void memberChanged_memberAdded_onlyMatchingResultsUpdated() {
+        Set<Member> aliceResults = matches(alice);
+        Set<Member> bensonResults = matches();
+        cache.put(predicate("alice"), aliceResults);
+        cache.put(predicate("benson"), bensonResults);
+
+        Member benson = new MemberBuilder(BENSON).build();
+        addressBook.addMember(benson);
+        assertEquals(matches(alice), aliceResults);
+        assertEquals(matches(benson), bensonResults);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void memberChanged_memberEdited_editedMemberReplacesTarget() {
+        Set<Member> results = matches(alice);
+        cache.put(predicate("alice"), results);
+
+        Member editedAlice = new MemberBuilder(alice).withPhone("91234567").build();
+        addressBook.setMember(alice, editedAlice);
+        assertEquals(matches(editedAlice), results);
+
+        addressBook.removeMember(editedAlice);
+        assertTrue(results.isEmpty());
+    }
+
+    @Test
+    public void eventChanged_onlyResultsDependingOnEventsDropped() {
+        CacheablePredicate<Member> eventFilter = new CacheablePredicate<>() {
+            @Override
+            public boolean test(Member member) {
+                return false;
+            }
+
+            @Override
+            public boolean dependsOnEvents() {
+                return true;
+            }
+        };
+        cache.put(predicate("alice"), matches(alice));
+        cache.put(eventFilter, matches());
+
+        cache.eventChanged(BADMINTON);
+        assertEquals(1, cache.size());
+        assertNull(cache.get(eventFilter));
+    }
+
+    @Test
+    public void allChanged_resultsDropped() {
+        cache.put(predicate("alice"), matches(alice));
+        addressBook.setMembers(Collections.emptyList());
+        assertEquals(0, cache.size());
+        assertFalse(addressBook.hasMember(alice));
+    }
+
+    private static Set<Member> matches(Member... members) {
+        Set<Member> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.addAll(Arrays.asList(members));
+        return matches;
+    }
+
+    private static NameContainsKeywordsPredicate<Member> predicate(String keyword) {
+        return new NameContainsKeywordsPredicate<>(Arrays.asList(keyword));
+    }
+}
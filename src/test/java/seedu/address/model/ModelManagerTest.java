@@ -10,14 +10,25 @@ import static seedu.address.testutil.TypicalMembers.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.module.NameContainsKeywordsPredicate;
 import seedu.address.model.module.member.Member;
+import seedu.address.model.module.task.Task;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.MemberBuilder;
 
 public class ModelManagerTest {
 
@@ -89,6 +100,170 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasMember(ALICE));
     }
 
+    @Test
+    public void getVersion_changesAndQueries_advancesOnlyOnChanges() {
+        long initialVersion = modelManager.getVersion();
+        modelManager.updateFilteredMemberList(PREDICATE_SHOW_ALL_MEMBERS);
+        modelManager.hasMember(ALICE);
+        assertEquals(initialVersion, modelManager.getVersion());
+
+        Member alice = new MemberBuilder(ALICE).build();
+        modelManager.addMember(alice);
+        long versionAfterAdd = modelManager.getVersion();
+        assertTrue(versionAfterAdd > initialVersion);
+
+        modelManager.addTask(alice, new Task("Book venue"));
+        assertTrue(modelManager.getVersion() > versionAfterAdd);
+    }
+
+    @Test
+    public void commitTransaction_manyAdds_listenersToldOnce() {
+        Member alice = new MemberBuilder(ALICE).build();
+        modelManager.addMember(alice);
+        ObservableList<Member> filteredMembers = modelManager.getFilteredMemberList();
+        modelManager.updateFilteredMemberList(member -> member.getName().fullName.endsWith("7"));
+        List<String> changes = new ArrayList<>();
+        ListChangeListener<Member> listener = change -> changes.add(change.toString());
+        modelManager.getAddressBook().getMemberList().addListener(listener);
+
+        modelManager.beginTransaction();
+        for (int i = 0; i < 50; i++) {
+            modelManager.addMember(new MemberBuilder().withName("Member " + i).build());
+        }
+        assertTrue(changes.isEmpty());
+        assertTrue(filteredMembers.isEmpty());
+        modelManager.commitTransaction();
+
+        assertEquals(1, changes.size());
+        assertFalse(modelManager.isInTransaction());
+        assertEquals(5, filteredMembers.size());
+    }
+
+    @Test
+    public void getFilteredMemberList_inTransaction_upToDate() {
+        modelManager.beginTransaction();
+        Member alice = new MemberBuilder(ALICE).build();
+        modelManager.addMember(alice);
+        assertEquals(Arrays.asList(alice), modelManager.getFilteredMemberList());
+
+        modelManager.updateFilteredMemberList(unused -> false);
+        modelManager.addMember(new MemberBuilder(BENSON).build());
+        modelManager.commitTransaction();
+        assertTrue(modelManager.getFilteredMemberList().isEmpty());
+    }
+
+    @Test
+    public void addMember_activeFilter_filterKept() {
+        modelManager.addMember(new MemberBuilder(ALICE).build());
+        modelManager.updateFilteredMemberList(new NameContainsKeywordsPredicate<>(Arrays.asList("Benson")));
+        assertTrue(modelManager.getFilteredMemberList().isEmpty());
+
+        Member benson = new MemberBuilder(BENSON).build();
+        modelManager.addMember(benson);
+        modelManager.addMember(new MemberBuilder().withName("Carl").build());
+        assertEquals(Arrays.asList(benson), modelManager.getFilteredMemberList());
+    }
+
+    @Test
+    public void updateFilteredMemberList_repeatedFilter_cachedAcrossChanges() {
+        Member alice = new MemberBuilder(ALICE).build();
+        modelManager.addMember(alice);
+        List<String> searches = new ArrayList<>();
+        Supplier<List<Member>> search = () -> {
+            searches.add("search");
+            return Arrays.asList(alice);
+        };
+
+        modelManager.updateFilteredMemberList(new NameContainsKeywordsPredicate<>(Arrays.asList("Alice")), search);
+        modelManager.updateFilteredMemberList(PREDICATE_SHOW_ALL_MEMBERS);
+        modelManager.addMember(new MemberBuilder(BENSON).build());
+        modelManager.updateFilteredMemberList(new NameContainsKeywordsPredicate<>(Arrays.asList("Alice")), search);
+        assertEquals(1, searches.size());
+        assertEquals(1, modelManager.getFilterCacheHitCount());
+        assertEquals(1, modelManager.getFilterCacheMissCount());
+        assertEquals(Arrays.asList(alice), modelManager.getFilteredMemberList());
+
+        // members added later are added to the cached results as well as the filtered list
+        Member otherAlice = new MemberBuilder().withName("Alice Tan").build();
+        modelManager.addMember(otherAlice);
+        assertEquals(Arrays.asList(alice, otherAlice), modelManager.getFilteredMemberList());
+
+        modelManager.updateFilteredMemberList(PREDICATE_SHOW_ALL_MEMBERS);
+        modelManager.updateFilteredMemberList(new NameContainsKeywordsPredicate<>(Arrays.asList("Alice")), search);
+        assertEquals(1, searches.size());
+        assertEquals(2, modelManager.getFilterCacheHitCount());
+        assertEquals(Arrays.asList(alice, otherAlice), modelManager.getFilteredMemberList());
+    }
+
+    @Test
+    public void updateFilteredMemberList_eventAdded_eventFilterSearchedAgain() {
+        Member alice = new MemberBuilder(ALICE).build();
+        modelManager.addMember(alice);
+        CacheablePredicate<Member> inAnyEvent = new CacheablePredicate<>() {
+            @Override
+            public boolean test(Member member) {
+                return modelManager.getAddressBook().getEventList().stream()
+                        .anyMatch(event -> event.isParticipatingInEvent(member));
+            }
+
+            @Override
+            public boolean dependsOnEvents() {
+                return true;
+            }
+        };
+        Supplier<List<Member>> search = () -> modelManager.getAddressBook().getMemberList().stream()
+                .filter(inAnyEvent).collect(Collectors.toList());
+
+        modelManager.updateFilteredMemberList(inAnyEvent, search);
+        assertEquals(Collections.emptyList(), modelManager.getFilteredMemberList());
+
+        modelManager.addEvent(new EventBuilder().withParticipants(alice).build());
+        modelManager.updateFilteredMemberList(inAnyEvent, search);
+        assertEquals(2, modelManager.getFilterCacheMissCount());
+        assertEquals(Arrays.asList(alice), modelManager.getFilteredMemberList());
+    }
+
+    @Test
+    public void updateFilteredMemberList_predicateNotCacheable_notSearchedOrCached() {
+        Member alice = new MemberBuilder(ALICE).build();
+        modelManager.addMember(alice);
+        Supplier<List<Member>> search = () -> {
+            throw new AssertionError("The search should not be used.");
+        };
+
+        modelManager.updateFilteredMemberList(member -> member == alice, search);
+        assertEquals(Arrays.asList(alice), modelManager.getFilteredMemberList());
+        assertEquals(0, modelManager.getFilterCacheMissCount());
+    }
+
+    @Test
+    public void rollbackTransaction_changesUndone() {
+        Member alice = new MemberBuilder(ALICE).build();
+        modelManager.addMember(alice);
+        Predicate<Member> noMembers = unused -> false;
+        modelManager.updateFilteredMemberList(noMembers);
+        AddressBook expected = AddressBook.detachedCopyOf(modelManager.getAddressBook());
+        long versionBefore = modelManager.getVersion();
+
+        modelManager.beginTransaction();
+        modelManager.addTask(alice, new Task("Book venue"));
+        modelManager.addMember(new MemberBuilder(BENSON).build());
+        modelManager.deleteMember(alice);
+        modelManager.rollbackTransaction();
+
+        assertEquals(expected, new AddressBook(modelManager.getAddressBook()));
+        assertTrue(modelManager.getFilteredMemberList().isEmpty());
+        assertTrue(modelManager.getVersion() > versionBefore);
+    }
+
+    @Test
+    public void transaction_wrongOrder_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> modelManager.commitTransaction());
+        assertThrows(IllegalStateException.class, () -> modelManager.rollbackTransaction());
+        modelManager.beginTransaction();
+        assertThrows(IllegalStateException.class, () -> modelManager.beginTransaction());
+    }
+
     @Test
     public void getFilteredMemberList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredMemberList().remove(0));
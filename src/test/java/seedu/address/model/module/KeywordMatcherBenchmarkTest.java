@@ -0,0 +1,86 @@
+package seedu.address.model.module;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Measures the memory allocated per name test by {@link KeywordMatcher}, compared with testing each keyword with
+ * {@link StringUtil#containsWordIgnoreCase(String, String)}.
+ *
+ * Whether the matcher allocates nothing depends on what the JIT compiler optimizes away, so the benchmark only runs
+ * when the system property {@code keywordMatcherBenchmark} is set to {@code true}, on a JVM that can count the memory
+ * allocated by a thread. For example, {@code gradlew test -DkeywordMatcherBenchmark=true}.
+ */
+public class KeywordMatcherBenchmarkTest {
+
+    private static final Logger logger = LogsCenter.getLogger(KeywordMatcherBenchmarkTest.class);
+
+    private static final int ROUNDS = 200_000;
+    private static final List<String> KEYWORDS = Arrays.asList("kurz", "MEIER", "xyz");
+
+    private final List<Name> names = new ArrayList<>();
+
+    @Test
+    @EnabledIfSystemProperty(named = "keywordMatcherBenchmark", matches = "true")
+    public void matchesAny_warmedUp_allocatesNothing() {
+        com.sun.management.ThreadMXBean threadBean = getThreadBean();
+        assumeTrue(threadBean != null, "Thread allocation counting is not supported");
+        for (String name : Arrays.asList("Alice Pauline", "Benson Meier", "Carl Kurz", "Daniel Meier", "Elle Meyer")) {
+            names.add(new Name(name));
+        }
+
+        KeywordMatcher matcher = new KeywordMatcher(KEYWORDS);
+        Predicate<Name> splitting = name -> KEYWORDS.stream()
+                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(name.fullName, keyword));
+        Predicate<Name> compiled = matcher::matchesAny;
+
+        double splittingBytes = bytesPerTest(threadBean, splitting);
+        double compiledBytes = bytesPerTest(threadBean, compiled);
+        logger.info(String.format("Bytes allocated per test: containsWordIgnoreCase %.1f, KeywordMatcher %.1f",
+                splittingBytes, compiledBytes));
+
+        assertTrue(compiledBytes < 1, "KeywordMatcher allocated " + compiledBytes + " bytes per test");
+        assertTrue(splittingBytes > compiledBytes);
+    }
+
+    private int countMatches(Predicate<Name> predicate) {
+        int matches = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            if (predicate.test(names.get(i % names.size()))) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private double bytesPerTest(com.sun.management.ThreadMXBean threadBean, Predicate<Name> predicate) {
+        countMatches(predicate); // warm up
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        countMatches(predicate);
+        long after = threadBean.getThreadAllocatedBytes(threadId);
+        return (double) (after - before) / ROUNDS;
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadBean() {
+        java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        return allocationBean.isThreadAllocatedMemorySupported() ? allocationBean : null;
+    }
+}
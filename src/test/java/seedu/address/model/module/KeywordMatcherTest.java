@@ -0,0 +1,54 @@
+package seedu.address.model.module;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+
+public class KeywordMatcherTest {
+
+    @Test
+    public void matchesAny_sameMatchesAsContainsWordIgnoreCase() {
+        List<String> keywords = Arrays.asList("kurz", "MEIER", " pau ", "xyz");
+        KeywordMatcher matcher = new KeywordMatcher(keywords);
+        for (String name : Arrays.asList("Alice Pauline", "Benson Meier", "Carl Kurz", "Daniel Meier", "Elle Meyer")) {
+            boolean expected = keywords.stream()
+                    .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(name, keyword));
+            assertEquals(expected, matcher.matchesAny(new Name(name)), name);
+        }
+    }
+
+    @Test
+    public void matchesAny_partOfWord_returnsTrue() {
+        assertTrue(new KeywordMatcher(Collections.singletonList("ali")).matchesAny(new Name("Alice Pauline")));
+        assertTrue(new KeywordMatcher(Collections.singletonList("LINE")).matchesAny(new Name("Alice Pauline")));
+    }
+
+    @Test
+    public void matchesAny_noKeywords_returnsFalse() {
+        assertFalse(new KeywordMatcher(Collections.emptyList()).matchesAny(new Name("Alice Pauline")));
+    }
+
+    @Test
+    public void matchesAny_keywordNotSingleWord_throwsIllegalArgumentException() {
+        KeywordMatcher emptyKeyword = new KeywordMatcher(Collections.singletonList("  "));
+        assertThrows(IllegalArgumentException.class, () -> emptyKeyword.matchesAny(new Name("Alice Pauline")));
+
+        KeywordMatcher twoWords = new KeywordMatcher(Collections.singletonList("alice pauline"));
+        assertThrows(IllegalArgumentException.class, () -> twoWords.matchesAny(new Name("Alice Pauline")));
+    }
+
+    @Test
+    public void matchesAny_earlierKeywordMatches_laterKeywordNotChecked() {
+        KeywordMatcher matcher = new KeywordMatcher(Arrays.asList("alice", "two words"));
+        assertTrue(matcher.matchesAny(new Name("Alice Pauline")));
+    }
+}
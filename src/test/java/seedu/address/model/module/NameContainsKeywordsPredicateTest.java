@@ -2,6 +2,7 @@ package seedu.address.model.module;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -79,4 +80,17 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new MemberBuilder().withName("Alice").withPhone("12345")
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
+
+    @Test
+    public void test_invalidKeyword_throwsOnlyWhenReached() {
+        Member alice = new MemberBuilder().withName("Alice Bob").build();
+
+        // Earlier keyword matches, so the invalid keyword is never tried
+        assertTrue(new NameContainsKeywordsPredicate<Member>(Arrays.asList("alice", "  ")).test(alice));
+
+        assertThrows(IllegalArgumentException.class, () ->
+                new NameContainsKeywordsPredicate<Member>(Arrays.asList("carol", "  ")).test(alice));
+        assertThrows(IllegalArgumentException.class, () ->
+                new NameContainsKeywordsPredicate<Member>(Collections.singletonList("alice bob")).test(alice));
+    }
 }
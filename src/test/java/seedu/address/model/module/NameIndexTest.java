@@ -0,0 +1,89 @@
+package seedu.address.model.module;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BENSON;
+import static seedu.address.testutil.TypicalMembers.CARL;
+import static seedu.address.testutil.TypicalMembers.getTypicalMembers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.module.member.Member;
+import seedu.address.testutil.MemberBuilder;
+
+public class NameIndexTest {
+
+    private final NameIndex<Member> nameIndex = new NameIndex<>();
+
+    @Test
+    public void find_invalidKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> nameIndex.find(Collections.singletonList("  ")));
+        assertThrows(IllegalArgumentException.class, () -> nameIndex.find(Collections.singletonList("alice bob")));
+    }
+
+    @Test
+    public void find_keywords_returnsMembersWithMatchingWord() {
+        getTypicalMembers().forEach(member -> nameIndex.add(member, member.getName()));
+
+        assertEquals(Collections.singleton(ALICE), nameIndex.find(Collections.singletonList("aLIce")));
+        assertEquals(Collections.singleton(CARL), nameIndex.find(Collections.singletonList("urz")));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON)), nameIndex.find(Arrays.asList("Pauline", "Benson")));
+        assertTrue(nameIndex.find(Collections.singletonList("eAl")).isEmpty());
+    }
+
+    @Test
+    public void find_afterRemoveAndClear_excludesRemovedMembers() {
+        nameIndex.add(ALICE, ALICE.getName());
+        nameIndex.add(BENSON, BENSON.getName());
+        nameIndex.remove(ALICE);
+        assertEquals(Collections.singleton(BENSON), nameIndex.find(Arrays.asList("Alice", "Benson")));
+
+        nameIndex.clear();
+        assertTrue(nameIndex.find(Collections.singletonList("Benson")).isEmpty());
+    }
+
+    @Test
+    public void find_randomNamesAndKeywords_sameResultAsPredicate() {
+        Random random = new Random(9);
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Member member = new MemberBuilder().withName(randomWords(random, 1 + random.nextInt(3))).build();
+            members.add(member);
+            nameIndex.add(member, member.getName());
+        }
+
+        for (int i = 0; i < 200; i++) {
+            List<String> keywords = Arrays.asList(randomWords(random, 1 + random.nextInt(2)).split(" "));
+            NameContainsKeywordsPredicate<Member> predicate = new NameContainsKeywordsPredicate<>(keywords);
+            Set<Member> expected = Collections.newSetFromMap(new IdentityHashMap<>());
+            members.stream().filter(predicate).forEach(expected::add);
+            assertEquals(expected, nameIndex.find(keywords), "keywords " + keywords);
+            assertTrue(nameIndex.estimate(keywords) >= expected.size(), "keywords " + keywords);
+        }
+    }
+
+    private static String randomWords(Random random, int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            int length = 1 + random.nextInt(5);
+            for (int j = 0; j < length; j++) {
+                builder.append("abAB1".charAt(random.nextInt(5)));
+            }
+        }
+        return builder.toString();
+    }
+}
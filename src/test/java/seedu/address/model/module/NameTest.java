@@ -37,4 +37,16 @@ public class NameTest {
         assertTrue(Name.isValidName("Capital Tan")); // with capital letters
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
+
+    @Test
+    public void hasWordContaining() {
+        Name name = new Name("David  Roger Jackson2nd ");
+
+        assertTrue(name.hasWordContaining("david")); // first word
+        assertTrue(name.hasWordContaining("oge")); // inside a word
+        assertTrue(name.hasWordContaining("2nd")); // last word, before trailing space
+        assertFalse(name.hasWordContaining("David")); // keyword must already be in lower case
+        assertFalse(name.hasWordContaining("droger")); // across words
+        assertFalse(name.hasWordContaining("jackson2nds")); // longer than the word
+    }
 }
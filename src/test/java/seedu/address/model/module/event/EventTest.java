@@ -0,0 +1,94 @@
+package seedu.address.model.module.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BENSON;
+import static seedu.address.testutil.TypicalMembers.BOB;
+import static seedu.address.testutil.TypicalMembers.CARL;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.module.Name;
+import seedu.address.model.module.member.Member;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.MemberBuilder;
+
+public class EventTest {
+
+    @Test
+    public void markAttendance_someParticipants_marksOnlyThoseParticipants() {
+        Event event = new EventBuilder().withParticipants(ALICE, BOB, BENSON).build();
+        event.markAttendance(Set.of(ALICE, BENSON, CARL));
+        assertTrue(event.hasAttended(ALICE));
+        assertFalse(event.hasAttended(BOB));
+        assertTrue(event.hasAttended(BENSON));
+        assertFalse(event.hasAttended(CARL));
+        assertEquals(2, event.getAttendedCount());
+        assertEquals(1, event.getAbsentCount());
+    }
+
+    @Test
+    public void markAttendanceForAll_thenMarkAbsent_updatesCounts() {
+        Event event = new EventBuilder().withParticipants(ALICE, BOB, BENSON).build();
+        event.markAttendanceForAll();
+        assertEquals(3, event.getAttendedCount());
+
+        event.markAbsent(Set.of(BOB, CARL));
+        assertEquals(Map.of(ALICE, true, BOB, false, BENSON, true), event.getMap());
+        assertEquals(3, event.getParticipantCount());
+        assertEquals(1, event.getAbsentCount());
+    }
+
+    @Test
+    public void removeParticipant_attendedParticipant_clearsAttendance() {
+        Event event = new EventBuilder().withParticipants(ALICE, BOB).build();
+        event.markAttendanceForAll();
+        event.removeParticipant(ALICE);
+        assertFalse(event.isParticipatingInEvent(ALICE));
+        assertFalse(event.hasAttended(ALICE));
+        assertEquals(1, event.getAttendedCount());
+
+        event.addParticipant(ALICE);
+        assertFalse(event.hasAttended(ALICE));
+        assertEquals(Set.of(ALICE, BOB), event.getParticipants());
+    }
+
+    @Test
+    public void moveTo_anotherDirectory_keepsParticipantsAndAttendance() {
+        Event event = new EventBuilder().withParticipants(ALICE, BOB).build();
+        event.markAttendance(Set.of(BOB));
+        UniqueEventList list = new UniqueEventList();
+        list.add(event);
+        list.remove(event);
+        assertEquals(Map.of(ALICE, false, BOB, true), event.getMap());
+    }
+
+    @Test
+    public void isParticipatingInEvent_differentMemberWithSameName_matchedByName() {
+        Member otherAlice = new MemberBuilder(ALICE).withPhone("91234567").build();
+        Event event = new EventBuilder().withParticipants(ALICE).build();
+        assertTrue(event.isParticipatingInEvent(otherAlice));
+        assertFalse(event.hasAttended(otherAlice));
+
+        event.markAttendance(Set.of(otherAlice));
+        assertTrue(event.hasAttended(ALICE));
+        assertTrue(event.hasAttended(otherAlice));
+        assertEquals(Set.of(ALICE), event.getParticipants());
+    }
+
+    @Test
+    public void isParticipatingInEvent_noParticipants_returnsFalse() {
+        Event event = new Event(new Name(EventBuilder.DEFAULT_NAME), new EventDate(EventBuilder.DEFAULT_DATE));
+        assertFalse(event.isParticipatingInEvent(ALICE));
+        assertFalse(event.hasAttended(ALICE));
+        assertTrue(event.getParticipants().isEmpty());
+
+        event.addParticipant(ALICE);
+        assertTrue(event.isParticipatingInEvent(ALICE));
+    }
+}
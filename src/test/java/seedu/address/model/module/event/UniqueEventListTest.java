@@ -3,15 +3,19 @@ package seedu.address.model.module.event;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EVENT_DATE_CHESS;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EVENT_NAME_CHESS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.BADMINTON;
 import static seedu.address.testutil.TypicalEvents.CHESS;
 import static seedu.address.testutil.TypicalEvents.OSMANTHUS_WINE;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -48,6 +52,18 @@ public class UniqueEventListTest {
         assertTrue(uniqueEventList.contains(editedChess));
     }
 
+    @Test
+    public void get_nullName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueEventList.get(null, CHESS.getDate()));
+    }
+
+    @Test
+    public void get_identityInList_returnsEvent() {
+        uniqueEventList.add(CHESS);
+        assertEquals(Optional.of(CHESS), uniqueEventList.get(CHESS.getName(), CHESS.getDate()));
+        assertEquals(Optional.empty(), uniqueEventList.get(CHESS.getName(), OSMANTHUS_WINE.getDate()));
+    }
+
     @Test
     public void add_nullEvent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueEventList.add(null));
@@ -130,6 +146,25 @@ public class UniqueEventListTest {
         assertEquals(expectedUniqueEventList, uniqueEventList);
     }
 
+    @Test
+    public void remove_eventBeforeOtherEvents_laterEventsStillReplaceable() {
+        Event chess = new EventBuilder(CHESS).build();
+        Event wine = new EventBuilder(OSMANTHUS_WINE).build();
+        Event badminton = new EventBuilder(BADMINTON).build();
+        uniqueEventList.setEvents(Arrays.asList(chess, wine));
+        uniqueEventList.remove(chess);
+        uniqueEventList.setEvent(wine, badminton);
+        UniqueEventList expectedUniqueEventList = new UniqueEventList();
+        expectedUniqueEventList.add(badminton);
+        assertEquals(expectedUniqueEventList, uniqueEventList);
+        assertFalse(uniqueEventList.contains(wine));
+    }
+
+    @Test
+    public void addMembers_eventNotInList_throwsEventNotFoundException() {
+        assertThrows(EventNotFoundException.class, () -> uniqueEventList.addMembers(CHESS, Collections.emptySet()));
+    }
+
     @Test
     public void setEvents_nullUniqueEventList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueEventList.setEvents((UniqueEventList) null));
@@ -165,6 +200,65 @@ public class UniqueEventListTest {
         assertThrows(DuplicateEventException.class, () -> uniqueEventList.setEvents(listWithDuplicateEvents));
     }
 
+    @Test
+    public void setEvents_listWithDuplicateEvents_reportsEveryDuplicate() {
+        Event editedChess = new EventBuilder(CHESS).build();
+        List<Event> listWithDuplicateEvents = Arrays.asList(CHESS, OSMANTHUS_WINE, editedChess, OSMANTHUS_WINE);
+        try {
+            uniqueEventList.setEvents(listWithDuplicateEvents);
+            fail();
+        } catch (DuplicateEventException e) {
+            assertEquals(Arrays.asList(editedChess, OSMANTHUS_WINE), e.getDuplicates());
+        }
+        assertEquals(new UniqueEventList(), uniqueEventList);
+    }
+
+    @Test
+    public void getEventsBetween_eventsOnSeveralDates_returnsEventsInRangeByDate() {
+        Event chess = new EventBuilder(CHESS).build();
+        Event wine = new EventBuilder(OSMANTHUS_WINE).build();
+        Event badminton = new EventBuilder(BADMINTON).build();
+        uniqueEventList.setEvents(Arrays.asList(chess, wine, badminton));
+        LocalDate badmintonDate = badminton.getDate().eventDate;
+        LocalDate chessDate = chess.getDate().eventDate;
+
+        assertEquals(Arrays.asList(badminton, wine, chess), uniqueEventList.getEventsBetween(LocalDate.MIN,
+                LocalDate.MAX));
+        assertEquals(Arrays.asList(badminton, wine), uniqueEventList.getEventsBetween(badmintonDate,
+                chessDate.minusDays(1)));
+        assertEquals(Collections.emptyList(), uniqueEventList.getEventsBetween(chessDate, badmintonDate));
+
+        uniqueEventList.remove(wine);
+        assertEquals(Arrays.asList(badminton, chess), uniqueEventList.getEventsBetween(LocalDate.MIN,
+                LocalDate.MAX));
+    }
+
+    @Test
+    public void getEventOnOrBeforeAndAfter_dateBetweenEvents_returnsNeighbours() {
+        Event chess = new EventBuilder(CHESS).build();
+        Event badminton = new EventBuilder(BADMINTON).build();
+        uniqueEventList.setEvents(Arrays.asList(chess, badminton));
+        LocalDate between = badminton.getDate().eventDate.plusDays(1);
+
+        assertEquals(Optional.of(badminton), uniqueEventList.getEventOnOrBefore(between));
+        assertEquals(Optional.of(chess), uniqueEventList.getEventOnOrAfter(between));
+        assertEquals(Optional.of(chess), uniqueEventList.getEventOnOrBefore(chess.getDate().eventDate));
+        assertEquals(Optional.empty(), uniqueEventList.getEventOnOrAfter(chess.getDate().eventDate.plusDays(1)));
+    }
+
+    @Test
+    public void getUpcomingEvents_limit_returnsEarliestEvents() {
+        Event chess = new EventBuilder(CHESS).build();
+        Event wine = new EventBuilder(OSMANTHUS_WINE).build();
+        Event badminton = new EventBuilder(BADMINTON).build();
+        uniqueEventList.setEvents(Arrays.asList(chess, wine, badminton));
+
+        assertEquals(Arrays.asList(badminton, wine), uniqueEventList.getUpcomingEvents(LocalDate.MIN, 2));
+        assertEquals(Collections.singletonList(chess),
+                uniqueEventList.getUpcomingEvents(wine.getDate().eventDate.plusDays(1), 2));
+        assertThrows(IllegalArgumentException.class, () -> uniqueEventList.getUpcomingEvents(LocalDate.MIN, -1));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
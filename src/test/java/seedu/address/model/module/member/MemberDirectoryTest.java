@@ -0,0 +1,104 @@
+package seedu.address.model.module.member;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BOB;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.MemberBuilder;
+
+public class MemberDirectoryTest {
+
+    private final MemberDirectory directory = new MemberDirectory();
+
+    @Test
+    public void idOf_unknownName_returnsNoId() {
+        assertEquals(MemberDirectory.NO_ID, directory.idOf(ALICE.getName()));
+    }
+
+    @Test
+    public void list_manyMembers_allListed() {
+        for (int i = 0; i < 100_000; i++) {
+            assertEquals(i, directory.list(new MemberBuilder().withName("Member " + i).build()));
+        }
+        assertTrue(directory.isListed(99_999));
+    }
+
+    @Test
+    public void retain_sameIdentity_returnsSameId() {
+        int id = directory.retain(ALICE);
+        Member editedAlice = new MemberBuilder(ALICE).withPhone("91234567").build();
+        assertEquals(id, directory.retain(editedAlice));
+        assertEquals(ALICE, directory.get(id));
+        assertFalse(directory.isListed(id));
+    }
+
+    @Test
+    public void release_lastRetention_freesIdForReuse() {
+        int aliceId = directory.retain(ALICE);
+        directory.release(aliceId);
+        assertEquals(MemberDirectory.NO_ID, directory.idOf(ALICE.getName()));
+        assertEquals(aliceId, directory.retain(BOB));
+    }
+
+    @Test
+    public void release_notRetained_throwsIllegalArgumentException() {
+        int id = directory.list(ALICE);
+        assertThrows(IllegalArgumentException.class, () -> directory.release(id));
+    }
+
+    @Test
+    public void unlist_stillRetained_keepsId() {
+        int id = directory.list(ALICE);
+        directory.retain(ALICE);
+        directory.unlist(id);
+        assertEquals(id, directory.idOf(ALICE.getName()));
+        assertFalse(directory.isListed(id));
+    }
+
+    @Test
+    public void list_retainedIdentity_promotesToListedMember() {
+        int id = directory.retain(ALICE);
+        Member editedAlice = new MemberBuilder(ALICE).withPhone("91234567").build();
+        assertEquals(id, directory.list(editedAlice));
+        assertTrue(directory.isListed(id));
+        assertEquals(editedAlice, directory.get(id));
+    }
+
+    @Test
+    public void list_idHeldByUnlistedMember_movesHolder() {
+        List<int[]> moves = new ArrayList<>();
+        directory.setListener((from, to) -> moves.add(new int[] {from, to}));
+        int bobId = directory.retain(BOB);
+
+        directory.list(ALICE, bobId);
+        assertEquals(bobId, directory.idOf(ALICE.getName()));
+        int movedBobId = directory.idOf(BOB.getName());
+        assertEquals(1, moves.size());
+        assertEquals(bobId, moves.get(0)[0]);
+        assertEquals(movedBobId, moves.get(0)[1]);
+    }
+
+    @Test
+    public void list_idOfListedMember_throwsIllegalArgumentException() {
+        int id = directory.list(ALICE);
+        assertThrows(IllegalArgumentException.class, () -> directory.list(BOB, id));
+    }
+
+    @Test
+    public void rebind_editedMember_keepsId() {
+        int id = directory.list(ALICE);
+        Member renamedAlice = new MemberBuilder(ALICE).withName("Alicia Pauline").build();
+        directory.rebind(id, renamedAlice);
+        assertEquals(id, directory.idOf(renamedAlice.getName()));
+        assertEquals(MemberDirectory.NO_ID, directory.idOf(ALICE.getName()));
+        assertEquals(renamedAlice, directory.get(id));
+    }
+}
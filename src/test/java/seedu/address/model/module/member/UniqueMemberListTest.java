@@ -3,20 +3,27 @@ package seedu.address.model.module.member;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_POSITION_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BENSON;
 import static seedu.address.testutil.TypicalMembers.BOB;
+import static seedu.address.testutil.TypicalMembers.CARL;
+import static seedu.address.testutil.TypicalMembers.DANIEL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.module.member.exceptions.DuplicateMemberException;
 import seedu.address.model.module.member.exceptions.MemberNotFoundException;
+import seedu.address.model.module.member.position.Position;
 import seedu.address.testutil.MemberBuilder;
 
 public class UniqueMemberListTest {
@@ -48,6 +55,25 @@ public class UniqueMemberListTest {
         assertTrue(uniqueMemberList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_memberRemovedFromList_returnsFalse() {
+        uniqueMemberList.add(ALICE);
+        uniqueMemberList.remove(ALICE);
+        assertFalse(uniqueMemberList.contains(ALICE));
+    }
+
+    @Test
+    public void get_nullName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueMemberList.get(null));
+    }
+
+    @Test
+    public void get_nameInList_returnsMember() {
+        uniqueMemberList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniqueMemberList.get(ALICE.getName()));
+        assertEquals(Optional.empty(), uniqueMemberList.get(BOB.getName()));
+    }
+
     @Test
     public void add_nullMember_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueMemberList.add(null));
@@ -105,6 +131,14 @@ public class UniqueMemberListTest {
         assertEquals(expectedUniqueMemberList, uniqueMemberList);
     }
 
+    @Test
+    public void setMember_editedMemberHasDifferentIdentity_updatesNameLookup() {
+        uniqueMemberList.add(ALICE);
+        uniqueMemberList.setMember(ALICE, BOB);
+        assertFalse(uniqueMemberList.contains(ALICE));
+        assertEquals(Optional.of(BOB), uniqueMemberList.get(BOB.getName()));
+    }
+
     @Test
     public void setMember_editedMemberHasNonUniqueIdentity_throwsDuplicateMemberException() {
         uniqueMemberList.add(ALICE);
@@ -122,6 +156,13 @@ public class UniqueMemberListTest {
         assertThrows(MemberNotFoundException.class, () -> uniqueMemberList.remove(ALICE));
     }
 
+    @Test
+    public void remove_memberWithSameIdentityButDifferentFields_throwsMemberNotFoundException() {
+        uniqueMemberList.add(ALICE);
+        Member editedAlice = new MemberBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(MemberNotFoundException.class, () -> uniqueMemberList.remove(editedAlice));
+    }
+
     @Test
     public void remove_existingMember_removesMember() {
         uniqueMemberList.add(ALICE);
@@ -130,6 +171,34 @@ public class UniqueMemberListTest {
         assertEquals(expectedUniqueMemberList, uniqueMemberList);
     }
 
+    @Test
+    public void remove_memberWithLowerId_otherMembersKeepIds() {
+        uniqueMemberList.add(ALICE);
+        uniqueMemberList.add(BENSON);
+        uniqueMemberList.add(DANIEL);
+        int aliceId = uniqueMemberList.getId(ALICE);
+        int danielId = uniqueMemberList.getId(DANIEL);
+        uniqueMemberList.remove(ALICE);
+
+        assertEquals(danielId, uniqueMemberList.getId(DANIEL));
+        assertFalse(uniqueMemberList.hasId(aliceId));
+        assertEquals(Arrays.asList(BENSON, DANIEL),
+                uniqueMemberList.getMembersWithPositions(List.of(Collections.singleton(new Position("friends")))));
+    }
+
+    @Test
+    public void setMember_afterEarlierMemberRemoved_replacesMemberInPlace() {
+        uniqueMemberList.add(ALICE);
+        uniqueMemberList.add(BENSON);
+        uniqueMemberList.add(CARL);
+        uniqueMemberList.remove(ALICE);
+        Member editedCarl = new MemberBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        uniqueMemberList.setMember(CARL, editedCarl);
+        uniqueMemberList.remove(BENSON);
+
+        assertEquals(Collections.singletonList(editedCarl), uniqueMemberList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setMembers_nullUniqueMemberList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueMemberList.setMembers((UniqueMemberList) null));
@@ -165,6 +234,56 @@ public class UniqueMemberListTest {
         assertThrows(DuplicateMemberException.class, () -> uniqueMemberList.setMembers(listWithDuplicateMembers));
     }
 
+    @Test
+    public void setMembers_listWithDuplicateMembers_reportsEveryDuplicateAndKeepsOwnList() {
+        uniqueMemberList.add(ALICE);
+        Member editedBob = new MemberBuilder(BOB).withAddress(VALID_ADDRESS_BOB).build();
+        List<Member> listWithDuplicateMembers = Arrays.asList(ALICE, BOB, ALICE, editedBob);
+        try {
+            uniqueMemberList.setMembers(listWithDuplicateMembers);
+            fail();
+        } catch (DuplicateMemberException e) {
+            assertEquals(Arrays.asList(ALICE, editedBob), e.getDuplicates());
+        }
+        UniqueMemberList expectedUniqueMemberList = new UniqueMemberList();
+        expectedUniqueMemberList.add(ALICE);
+        assertEquals(expectedUniqueMemberList, uniqueMemberList);
+        assertFalse(uniqueMemberList.contains(BOB));
+    }
+
+    @Test
+    public void getMembersWithPositions_andOrClauses_returnsMatchingMembers() {
+        uniqueMemberList.setMembers(Arrays.asList(ALICE, BENSON, CARL));
+        Set<Position> friends = Collections.singleton(new Position("friends"));
+        Set<Position> owesMoney = Collections.singleton(new Position("owesMoney"));
+        Set<Position> friendsAndOwesMoney = Set.of(new Position("friends"), new Position("owesMoney"));
+
+        assertEquals(Arrays.asList(ALICE, BENSON), uniqueMemberList.getMembersWithPositions(List.of(friends)));
+        assertEquals(Collections.singletonList(BENSON),
+                uniqueMemberList.getMembersWithPositions(List.of(friendsAndOwesMoney)));
+        assertEquals(Arrays.asList(ALICE, BENSON),
+                uniqueMemberList.getMembersWithPositions(List.of(owesMoney, friends)));
+        assertEquals(Collections.emptyList(),
+                uniqueMemberList.getMembersWithPositions(List.of(Collections.singleton(new Position("unknown")))));
+    }
+
+    @Test
+    public void getMembersWithPositions_afterEditAndRemove_followsChanges() {
+        uniqueMemberList.add(ALICE);
+        uniqueMemberList.add(BENSON);
+        Set<Position> friends = Collections.singleton(new Position("friends"));
+        Set<Position> husband = Collections.singleton(new Position(VALID_POSITION_HUSBAND));
+
+        Member editedAlice = new MemberBuilder(ALICE).withPositions(VALID_POSITION_HUSBAND).build();
+        uniqueMemberList.setMember(ALICE, editedAlice);
+        assertEquals(Collections.singletonList(BENSON), uniqueMemberList.getMembersWithPositions(List.of(friends)));
+        assertEquals(Collections.singletonList(editedAlice),
+                uniqueMemberList.getMembersWithPositions(List.of(husband)));
+
+        uniqueMemberList.remove(BENSON);
+        assertEquals(Collections.emptyList(), uniqueMemberList.getMembersWithPositions(List.of(friends)));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
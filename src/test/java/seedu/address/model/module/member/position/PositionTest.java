@@ -1,5 +1,7 @@
 package seedu.address.model.module.member.position;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,13 @@ public class PositionTest {
         assertThrows(IllegalArgumentException.class, () -> new Position(invalidPositionName));
     }
 
+    @Test
+    public void of_samePositionName_returnsSameInstance() {
+        assertSame(Position.of("Treasurer"), Position.of("Treasurer"));
+        assertEquals(new Position("Treasurer"), Position.of("Treasurer"));
+        assertThrows(IllegalArgumentException.class, () -> Position.of("not valid"));
+    }
+
     @Test
     public void isValidPositionName() {
         // null position name
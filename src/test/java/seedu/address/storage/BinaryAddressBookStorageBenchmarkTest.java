@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.module.Name;
+import seedu.address.model.module.event.Event;
+import seedu.address.model.module.event.EventDate;
+import seedu.address.model.module.member.Address;
+import seedu.address.model.module.member.Email;
+import seedu.address.model.module.member.Member;
+import seedu.address.model.module.member.Phone;
+import seedu.address.model.module.member.position.Position;
+import seedu.address.model.module.task.Task;
+import seedu.address.model.module.task.TaskList;
+
+/**
+ * Compares the time taken to save and read an address book, and the size of its file, between
+ * {@link JsonAddressBookStorage} and {@link BinaryAddressBookStorage}.
+ *
+ * The benchmark only runs when the system property {@code storageBenchmark.members} is set to a comma-separated list
+ * of sizes, such as {@code 10000,100000,1000000}, so that the usual test run stays quick. For example,
+ * {@code gradlew test -DstorageBenchmark.members=10000}.
+ */
+public class BinaryAddressBookStorageBenchmarkTest {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorageBenchmarkTest.class);
+
+    private static final int MEMBERS_PER_EVENT = 20;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    @EnabledIfSystemProperty(named = "storageBenchmark.members", matches = ".+")
+    public void compareWithJson() throws Exception {
+        run(1000); // warm up
+        for (String size : System.getProperty("storageBenchmark.members").split(",")) {
+            run(Integer.parseInt(size.trim()));
+        }
+    }
+
+    private void run(int memberCount) throws Exception {
+        AddressBook addressBook = generate(memberCount);
+        Path jsonPath = testFolder.resolve(memberCount + ".json");
+        Path binaryPath = testFolder.resolve(memberCount + ".bin");
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonPath);
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(binaryPath);
+
+        long start = System.nanoTime();
+        jsonStorage.saveAddressBook(addressBook);
+        long jsonSave = System.nanoTime() - start;
+        start = System.nanoTime();
+        binaryStorage.saveAddressBook(addressBook);
+        long binarySave = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        ReadOnlyAddressBook fromJson = jsonStorage.readAddressBook().get();
+        long jsonRead = System.nanoTime() - start;
+        start = System.nanoTime();
+        ReadOnlyAddressBook fromBinary = binaryStorage.readAddressBook().get();
+        long binaryRead = System.nanoTime() - start;
+
+        logger.info(String.format("%,d members: json %,d bytes, save %d ms, read %d ms; "
+                        + "binary %,d bytes, save %d ms, read %d ms", memberCount,
+                Files.size(jsonPath), jsonSave / 1_000_000, jsonRead / 1_000_000,
+                Files.size(binaryPath), binarySave / 1_000_000, binaryRead / 1_000_000));
+
+        assertEquals(fromJson, fromBinary);
+        assertTrue(Files.size(binaryPath) < Files.size(jsonPath));
+        Files.delete(jsonPath);
+        Files.delete(binaryPath);
+    }
+
+    private static AddressBook generate(int memberCount) {
+        AddressBook addressBook = new AddressBook();
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < memberCount; i++) {
+            Set<Position> positions = new HashSet<>();
+            positions.add(Position.of("Position" + (i % 10)));
+            if (i % 3 == 0) {
+                positions.add(Position.of("Committee"));
+            }
+            TaskList taskList = new TaskList();
+            for (int t = 0; t < i % 4; t++) {
+                taskList.add(new Task("Task " + (i + t) % 20, t % 2 == 0));
+            }
+            Member member = new Member(new Name("Member " + i), new Phone(String.valueOf(90000000 + i)),
+                    new Email("member" + i + "@example.com"), new Address("Block " + (i % 50) + " Kent Ridge"),
+                    positions, taskList);
+            members.add(member);
+            addressBook.addMember(member);
+        }
+        for (int e = 0; e < memberCount / MEMBERS_PER_EVENT / 5; e++) {
+            List<Member> eventMembers = members.subList(e * MEMBERS_PER_EVENT, (e + 1) * MEMBERS_PER_EVENT);
+            Set<Member> participants = new HashSet<>(eventMembers);
+            addressBook.addEvent(new Event(new Name("Event " + e),
+                    new EventDate(String.format("%02d/%02d/2022", e % 28 + 1, e % 12 + 1)), participants));
+        }
+        return addressBook;
+    }
+}
@@ -0,0 +1,172 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.getTypicalAddressBookWithEvents;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.HOON;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.module.event.Event;
+import seedu.address.model.module.member.Member;
+import seedu.address.model.module.task.Task;
+import seedu.address.testutil.MemberBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBookWithEvents();
+        original.setMember(ALICE, new MemberBuilder(ALICE)
+                .withTaskList(new Task("Buy food"), new Task("Book hall", true)).build());
+
+        storage.saveAddressBook(original);
+        assertSameData(original, storage.readAddressBook().get());
+
+        original.addMember(HOON);
+        original.removeEvent(original.getEventList().get(0));
+        storage.saveAddressBook(original);
+        assertSameData(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_readAsJson() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBookWithEvents();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        assertSameData(original, storage.readAddressBook().get());
+
+        storage.saveAddressBook(original);
+        assertTrue(BinarySnapshot.isBinarySnapshot(filePath));
+        assertSameData(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void map_countsWithoutDecodingEverything() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBookWithEvents();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        BinarySnapshot snapshot = BinarySnapshot.map(filePath);
+        assertEquals(original.getMemberList().size(), snapshot.getMemberCount());
+        assertEquals(original.getEventList().size(), snapshot.getEventCount());
+        assertSameData(original, snapshot.toModelType());
+    }
+
+    @Test
+    public void readAddressBook_damagedSection_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBookWithEvents());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[BinarySnapshot.HEADER_SIZE + 3] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBookWithEvents());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_newerFormatVersion_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBookWithEvents());
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(4, BinarySnapshot.FORMAT_VERSION + 1);
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void toModelType_memberIdNotBelowMemberCount_memberNumberedInOrder() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook addressBook = new AddressBook();
+        addressBook.addMember(ALICE);
+        ReadOnlyAddressBook largeId = new ReadOnlyAddressBook() {
+            @Override
+            public ObservableList<Member> getMemberList() {
+                return addressBook.getMemberList();
+            }
+
+            @Override
+            public ObservableList<Event> getEventList() {
+                return addressBook.getEventList();
+            }
+
+            @Override
+            public int getMemberId(Member member) {
+                return Integer.MAX_VALUE;
+            }
+        };
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            BinarySnapshotWriter.write(largeId, channel);
+        }
+
+        assertEquals(0, BinarySnapshot.map(filePath).toModelType().getMemberId(ALICE));
+        assertEquals(0, new BinaryAddressBookStorage(filePath).readAddressBook().get().getMemberId(ALICE));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameData() throws Exception {
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        Path binaryPath = testFolder.resolve("addressbook.bin");
+        Path convertedPath = testFolder.resolve("converted.json");
+        AddressBook original = getTypicalAddressBookWithEvents();
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(original);
+
+        assertFalse(AddressBookConverter.convert(jsonPath, binaryPath));
+        assertTrue(BinarySnapshot.isBinarySnapshot(binaryPath));
+        assertTrue(Files.size(binaryPath) < Files.size(jsonPath));
+        assertTrue(AddressBookConverter.convert(binaryPath, convertedPath));
+
+        assertEquals(new String(Files.readAllBytes(jsonPath)), new String(Files.readAllBytes(convertedPath)));
+    }
+
+    private static void assertSameData(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected, actual);
+        for (Member member : expected.getMemberList()) {
+            assertEquals(expected.getMemberId(member), actual.getMemberId(member));
+            assertEquals(member.getTaskList().asUnmodifiableObservableList(),
+                    actual.getMemberList().get(actual.getMemberList().indexOf(member)).getTaskList()
+                            .asUnmodifiableObservableList());
+        }
+        for (int i = 0; i < expected.getEventList().size(); i++) {
+            assertEquals(expected.getEventList().get(i).getMap(), actual.getEventList().get(i).getMap());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BENSON;
+import static seedu.address.testutil.TypicalMembers.CARL;
+import static seedu.address.testutil.TypicalMembers.DANIEL;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.module.member.Member;
+import seedu.address.model.module.task.Task;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.MemberBuilder;
+
+public class EncodedRecordCacheTest {
+
+    private final Member alice = new MemberBuilder(ALICE).build();
+    private final Member benson = new MemberBuilder(BENSON).build();
+    private final Member carl = new MemberBuilder(CARL).build();
+
+    @Test
+    public void encode_unchangedRecords_reused() throws Exception {
+        AddressBook addressBook = newAddressBook();
+        EncodedRecordCache cache = new EncodedRecordCache(true);
+        EncodedRecordCache.Encoded first = cache.encode(addressBook);
+        EncodedRecordCache.Encoded second = cache.encode(addressBook);
+
+        for (int i = 0; i < first.members.size(); i++) {
+            assertSame(first.members.get(i), second.members.get(i));
+        }
+        assertSame(first.events.get(0), second.events.get(0));
+        assertSameEncoding(addressBook, second, true);
+    }
+
+    @Test
+    public void encode_memberChangedInPlace_encodedAgain() throws Exception {
+        AddressBook addressBook = newAddressBook();
+        EncodedRecordCache cache = new EncodedRecordCache(false);
+        EncodedRecordCache.Encoded first = cache.encode(addressBook);
+
+        benson.getTaskList().add(new Task("Book the hall"));
+        addressBook.markModified(benson);
+        EncodedRecordCache.Encoded second = cache.encode(addressBook);
+
+        assertSame(first.members.get(0), second.members.get(0));
+        assertNotSame(first.members.get(1), second.members.get(1));
+        assertSame(first.events.get(0), second.events.get(0));
+        assertSameEncoding(addressBook, second, false);
+    }
+
+    @Test
+    public void encode_eventChanged_encodedAgain() throws Exception {
+        AddressBook addressBook = newAddressBook();
+        EncodedRecordCache cache = new EncodedRecordCache(true);
+        EncodedRecordCache.Encoded first = cache.encode(addressBook);
+
+        addressBook.addEventMembers(addressBook.getEventList().get(0), Collections.singleton(carl));
+        EncodedRecordCache.Encoded second = cache.encode(addressBook);
+        assertNotSame(first.events.get(0), second.events.get(0));
+        assertSameEncoding(addressBook, second, true);
+
+        addressBook.setMember(alice, new MemberBuilder(alice).withName("Alice Tan").build());
+        EncodedRecordCache.Encoded third = cache.encode(addressBook);
+        assertNotSame(second.members.get(0), third.members.get(0));
+        assertNotSame(second.events.get(0), third.events.get(0));
+        assertSameEncoding(addressBook, third, true);
+
+        addressBook.removeMember(carl);
+        assertSameEncoding(addressBook, cache.encode(addressBook), true);
+    }
+
+    @Test
+    public void encode_unlistedParticipant_alwaysEncodedAgain() throws Exception {
+        AddressBook addressBook = newAddressBook();
+        Member daniel = new MemberBuilder(DANIEL).build();
+        addressBook.addEvent(new EventBuilder().withName("Cycling").withParticipants(alice, daniel).build());
+        EncodedRecordCache cache = new EncodedRecordCache(true);
+        EncodedRecordCache.Encoded first = cache.encode(addressBook);
+
+        addressBook.addMember(daniel);
+        EncodedRecordCache.Encoded second = cache.encode(addressBook);
+
+        assertSame(first.events.get(0), second.events.get(0));
+        assertNotSame(first.events.get(1), second.events.get(1));
+        assertSameEncoding(addressBook, second, true);
+    }
+
+    @Test
+    public void encode_detachedCopies_unchangedMembersReused() throws Exception {
+        AddressBook addressBook = newAddressBook();
+        EncodedRecordCache cache = new EncodedRecordCache(true);
+        EncodedRecordCache.Encoded first = cache.encode(AddressBook.detachedCopyOf(addressBook));
+
+        addressBook.markModified(benson);
+        AddressBook copy = AddressBook.detachedCopyOf(addressBook);
+        EncodedRecordCache.Encoded second = cache.encode(copy);
+
+        assertSame(first.members.get(0), second.members.get(0));
+        assertNotSame(first.members.get(1), second.members.get(1));
+        assertSameEncoding(copy, second, true);
+    }
+
+    private AddressBook newAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addMember(alice);
+        addressBook.addMember(benson);
+        addressBook.addMember(carl);
+        addressBook.addEvent(new EventBuilder().withParticipants(alice, benson).build());
+        return addressBook;
+    }
+
+    /**
+     * Asserts that {@code encoded} is what encoding {@code addressBook} afresh gives.
+     */
+    private static void assertSameEncoding(ReadOnlyAddressBook addressBook, EncodedRecordCache.Encoded encoded,
+                                           boolean isPretty) throws Exception {
+        EncodedRecordCache.Encoded expected = new EncodedRecordCache(isPretty).encode(new AddressBook(addressBook));
+        assertEquals(expected.members.size(), encoded.members.size());
+        assertEquals(expected.events.size(), encoded.events.size());
+        assertEachEquals(expected.members, encoded.members);
+        assertEachEquals(expected.events, encoded.events);
+    }
+
+    private static void assertEachEquals(List<byte[]> expected, List<byte[]> actual) {
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), actual.get(i));
+        }
+    }
+}
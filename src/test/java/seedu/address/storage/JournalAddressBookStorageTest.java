@@ -0,0 +1,231 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEvents.BADMINTON;
+import static seedu.address.testutil.TypicalEvents.getTypicalAddressBookWithEvents;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BENSON;
+import static seedu.address.testutil.TypicalMembers.HOON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.AtomicFileWriter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.module.member.Member;
+import seedu.address.testutil.MemberBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void save_changes_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = newStorage(filePath, Long.MAX_VALUE);
+        AddressBook addressBook = getTypicalAddressBookWithEvents();
+
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(journalPath));
+        String snapshot = new String(Files.readAllBytes(filePath));
+
+        addressBook.addMember(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(snapshot, new String(Files.readAllBytes(filePath)));
+        assertEquals(1, Files.readAllLines(journalPath).size());
+
+        // nothing changed, nothing written
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+
+        assertSameData(addressBook, newStorage(filePath, Long.MAX_VALUE).readAddressBook().get());
+    }
+
+    @Test
+    public void read_journalTruncatedAtAnyOffset_recoversLastCompleteSave() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = newStorage(filePath, Long.MAX_VALUE);
+        AddressBook addressBook = getTypicalAddressBookWithEvents();
+        List<AddressBook> savedStates = new ArrayList<>();
+        List<Long> journalSizes = new ArrayList<>();
+
+        storage.saveAddressBook(addressBook);
+        savedStates.add(new AddressBook(addressBook));
+        journalSizes.add(0L);
+        for (Runnable change : changes(addressBook)) {
+            change.run();
+            storage.saveAddressBook(addressBook);
+            savedStates.add(new AddressBook(addressBook));
+            journalSizes.add(Files.size(journalPath));
+        }
+
+        byte[] snapshot = Files.readAllBytes(filePath);
+        byte[] journal = Files.readAllBytes(journalPath);
+        for (int offset = 0; offset <= journal.length; offset++) {
+            Path crashedFilePath = testFolder.resolve("crash" + offset).resolve("addressbook.json");
+            Path crashedJournalPath = JournalAddressBookStorage.getJournalFilePath(crashedFilePath);
+            Files.createDirectories(crashedFilePath.getParent());
+            Files.write(crashedFilePath, snapshot);
+            Files.write(crashedJournalPath, Arrays.copyOf(journal, offset));
+
+            int lastComplete = 0;
+            while (lastComplete + 1 < journalSizes.size() && journalSizes.get(lastComplete + 1) <= offset) {
+                lastComplete++;
+            }
+            ReadOnlyAddressBook recovered = newStorage(crashedFilePath, Long.MAX_VALUE).readAddressBook().get();
+            assertSameData(savedStates.get(lastComplete), recovered);
+            assertEquals((long) journalSizes.get(lastComplete), Files.size(crashedJournalPath));
+        }
+    }
+
+    @Test
+    public void save_afterRecovery_continuesJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = newStorage(filePath, Long.MAX_VALUE);
+        AddressBook addressBook = getTypicalAddressBookWithEvents();
+        storage.saveAddressBook(addressBook);
+        addressBook.addMember(HOON);
+        storage.saveAddressBook(addressBook);
+        AddressBook beforeCrash = new AddressBook(addressBook);
+        addressBook.removeMember(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        byte[] journal = Files.readAllBytes(journalPath);
+        Files.write(journalPath, Arrays.copyOf(journal, journal.length - 5));
+
+        JournalAddressBookStorage recoveredStorage = newStorage(filePath, Long.MAX_VALUE);
+        AddressBook recovered = new AddressBook(recoveredStorage.readAddressBook().get());
+        assertSameData(beforeCrash, recovered);
+        recovered.addEvent(BADMINTON);
+        recoveredStorage.saveAddressBook(recovered);
+
+        assertSameData(recovered, newStorage(filePath, Long.MAX_VALUE).readAddressBook().get());
+    }
+
+    @Test
+    public void read_corruptedEntry_stopsReplay() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = newStorage(filePath, Long.MAX_VALUE);
+        AddressBook addressBook = getTypicalAddressBookWithEvents();
+        storage.saveAddressBook(addressBook);
+        AddressBook original = new AddressBook(addressBook);
+        addressBook.addMember(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.removeMember(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        byte[] journal = Files.readAllBytes(journalPath);
+        journal[20] ^= 1;
+        Files.write(journalPath, journal);
+
+        assertSameData(original, newStorage(filePath, Long.MAX_VALUE).readAddressBook().get());
+    }
+
+    @Test
+    public void save_journalPastThreshold_compacted() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = newStorage(filePath, 0);
+        AddressBook addressBook = getTypicalAddressBookWithEvents();
+        storage.saveAddressBook(addressBook);
+
+        for (Runnable change : changes(addressBook)) {
+            change.run();
+            storage.saveAddressBook(addressBook);
+            assertEquals(0, Files.size(journalPath));
+            assertSameData(addressBook, newStorage(filePath, 0).readAddressBook().get());
+        }
+
+        // the snapshot is still an ordinary json address book
+        assertSameData(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void save_reorderedMembers_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = newStorage(filePath, Long.MAX_VALUE);
+        AddressBook addressBook = getTypicalAddressBookWithEvents();
+        storage.saveAddressBook(addressBook);
+
+        List<Member> reversed = new ArrayList<>(addressBook.getMemberList());
+        Collections.reverse(reversed);
+        addressBook.setMembers(reversed);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertSameData(addressBook, newStorage(filePath, Long.MAX_VALUE).readAddressBook().get());
+    }
+
+    @Test
+    public void save_snapshotReplaced_backedUpByFileWriter() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AtomicFileWriter fileWriter = new AtomicFileWriter(AtomicFileWriter.SyncPolicy.NONE, 1);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, fileWriter);
+        AddressBook addressBook = getTypicalAddressBookWithEvents();
+        storage.saveAddressBook(addressBook);
+        ReadOnlyAddressBook firstSave = new AddressBook(addressBook);
+
+        List<Member> reversed = new ArrayList<>(addressBook.getMemberList());
+        Collections.reverse(reversed);
+        addressBook.setMembers(reversed);
+        storage.saveAddressBook(addressBook);
+
+        Path backupPath = AtomicFileWriter.getBackupPath(filePath, 1);
+        assertSameData(firstSave, new JournalAddressBookStorage(backupPath).readAddressBook().get());
+        assertSameData(addressBook, new JournalAddressBookStorage(filePath, fileWriter).readAddressBook().get());
+    }
+
+    @Test
+    public void read_jsonAddressBookFile_changesJournaled() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBookWithEvents());
+        JournalAddressBookStorage storage = newStorage(filePath, Long.MAX_VALUE);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+
+        addressBook.addMember(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertTrue(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertSameData(addressBook, newStorage(filePath, Long.MAX_VALUE).readAddressBook().get());
+    }
+
+    private static JournalAddressBookStorage newStorage(Path filePath, long compactionThreshold) {
+        return new JournalAddressBookStorage(filePath, AtomicFileWriter.DEFAULT, compactionThreshold, Runnable::run);
+    }
+
+    /**
+     * Returns a series of changes to {@code addressBook}, to be saved one at a time.
+     */
+    private static List<Runnable> changes(AddressBook addressBook) {
+        return Arrays.asList(() -> addressBook.addMember(HOON), () -> addressBook.setMember(ALICE,
+                new MemberBuilder(ALICE).withPhone("99999999").build()), () -> addressBook.removeMember(BENSON), ()
+                -> addressBook.addEvent(BADMINTON), () -> addressBook.removeEvent(addressBook.getEventList().get(0)));
+    }
+
+    private static void assertSameData(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected, actual);
+        for (Member member : expected.getMemberList()) {
+            assertEquals(expected.getMemberId(member), actual.getMemberId(member));
+        }
+    }
+}
@@ -6,7 +6,12 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalEvents.RUMBLING;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -15,6 +20,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.module.Name;
 import seedu.address.model.module.event.Event;
 import seedu.address.model.module.event.EventDate;
+import seedu.address.model.module.member.Member;
 import seedu.address.testutil.EventBuilder;
 
 public class JsonAdaptedEventTest {
@@ -66,6 +72,33 @@ public class JsonAdaptedEventTest {
         assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
     }
 
+    @Test
+    public void toModelType_participantReferences_resolvedToListedMembers() throws Exception {
+        Set<Name> memberNames = RUMBLING.getParticipants().stream().map(Member::getName).collect(Collectors.toSet());
+        JsonAdaptedEvent event = new JsonAdaptedEvent(RUMBLING, memberNames);
+        Map<Name, Member> listed = new HashMap<>();
+        RUMBLING.getParticipants().forEach(member -> listed.put(member.getName(), member));
+
+        Event modelEvent = event.toModelType(name -> Optional.ofNullable(listed.get(name)));
+        assertEquals(RUMBLING, modelEvent);
+        assertEquals(RUMBLING.getMap(), modelEvent.getMap());
+    }
+
+    @Test
+    public void toModelType_unknownParticipantReference_throwsIllegalValueException() {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_NAME, VALID_DATE,
+                Collections.singletonList(new JsonAdaptedParticipant("Nobody", null, true)), null, null);
+        String expectedMessage = String.format(JsonAdaptedParticipant.MESSAGE_UNKNOWN_MEMBER, "Nobody");
+        assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
+    }
+
+    @Test
+    public void toModelType_missingAttendance_throwsIllegalValueException() {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_NAME, VALID_DATE, VALID_PARTICIPANTS, null);
+        String expectedMessage = String.format(MISSING_FIELD_EVENT_FORMAT, "attendanceList");
+        assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
+    }
+
     @Test
     public void constructor_test() {
         JsonAdaptedEvent jsonAdaptedEvent = new JsonAdaptedEvent(VALID_NAME, VALID_DATE, VALID_PARTICIPANTS,
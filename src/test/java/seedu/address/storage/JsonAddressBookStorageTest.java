@@ -2,22 +2,33 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.getTypicalAddressBookWithEvents;
 import static seedu.address.testutil.TypicalMembers.ALICE;
 import static seedu.address.testutil.TypicalMembers.HOON;
 import static seedu.address.testutil.TypicalMembers.IDA;
 import static seedu.address.testutil.TypicalMembers.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.module.event.Event;
+import seedu.address.model.module.member.Member;
+import seedu.address.testutil.MemberBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +97,131 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_streamed_sameAsSerializedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBookWithEvents();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)),
+                new String(Files.readAllBytes(filePath)));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compact_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBookWithEvents();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        String json = new String(Files.readAllBytes(filePath));
+        assertFalse(json.contains("\n"));
+        assertFalse(json.contains(": "));
+        assertEquals(original, jsonAddressBookStorage.readAddressBook().get());
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_unknownFields_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.write(filePath, "{\"version\":{\"members\":[1]},\"members\":[],\"other\":[{}],\"events\":[]}"
+                .getBytes());
+        assertEquals(new AddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBookWithEvents());
+        byte[] json = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(json, json.length / 2));
+
+        assertThrows(DataConversionException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_schemaVersion1_migrated() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBookWithEvents();
+        List<JsonAdaptedMember> members = original.getMemberList().stream()
+                .map(member -> new JsonAdaptedMember(member, original.getMemberId(member)))
+                .collect(Collectors.toList());
+        List<JsonAdaptedEvent> events = new ArrayList<>();
+        for (Event event : original.getEventList()) {
+            List<JsonAdaptedMember> participants = new ArrayList<>();
+            List<Boolean> attendanceList = new ArrayList<>();
+            event.getMap().forEach((member, attended) -> {
+                participants.add(new JsonAdaptedMember(member));
+                attendanceList.add(attended);
+            });
+            events.add(new JsonAdaptedEvent(event.getName().fullName, event.getDate().toString(), participants,
+                    attendanceList));
+        }
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(null, members, events), filePath);
+        long version1Size = Files.size(filePath);
+
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        assertEquals(original, jsonAddressBookStorage.readAddressBook().get());
+
+        jsonAddressBookStorage.saveAddressBook(jsonAddressBookStorage.readAddressBook().get());
+        String json = new String(Files.readAllBytes(filePath));
+        assertTrue(json.contains("\"schemaVersion\" : " + JsonSerializableAddressBook.SCHEMA_VERSION));
+        assertFalse(json.contains("attendanceList"));
+        assertTrue(Files.size(filePath) < version1Size);
+        assertEquals(original, jsonAddressBookStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_participantsReferToListedMembers() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBookWithEvents());
+
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook().get();
+        for (Event event : readBack.getEventList()) {
+            for (Member participant : event.getParticipants()) {
+                if (readBack.getMemberList().contains(participant)) {
+                    assertTrue(readBack.getMemberList().stream().anyMatch(member -> member == participant));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void readAddressBook_memberIdNotBelowMemberCount_memberNumberedInOrder() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(null,
+                List.of(new JsonAdaptedMember(ALICE, Integer.MAX_VALUE)), new ArrayList<>()), filePath);
+        assertEquals(0, new JsonAddressBookStorage(filePath).readAddressBook().get().getMemberId(ALICE));
+    }
+
+    @Test
+    public void readAddressBook_membersInSeveralBatches_idsCheckedAcrossBatches() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        int memberCount = 10000;
+        List<JsonAdaptedMember> members = new ArrayList<>();
+        for (int i = 0; i < memberCount; i++) {
+            Member member = new MemberBuilder().withName("Member " + i).build();
+            members.add(new JsonAdaptedMember(member, memberCount - 1 - i));
+        }
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(null, members, new ArrayList<>()), filePath);
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(memberCount, readBack.getMemberList().size());
+        assertEquals(0, readBack.getMemberId(readBack.getMemberList().get(memberCount - 1)));
+
+        members.set(memberCount - 1, new JsonAdaptedMember(new MemberBuilder().withName("Last").build(), 1));
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(null, members, new ArrayList<>()), filePath);
+        assertThrows(DataConversionException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_newerSchemaVersion_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.write(filePath, ("{\"schemaVersion\":" + (JsonSerializableAddressBook.SCHEMA_VERSION + 1)
+                + ",\"members\":[],\"events\":[]}").getBytes());
+        assertThrows(DataConversionException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
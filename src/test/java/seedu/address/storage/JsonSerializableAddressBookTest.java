@@ -5,12 +5,17 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.module.Name;
+import seedu.address.model.module.member.Phone;
 import seedu.address.testutil.TypicalMembers;
 
 public class JsonSerializableAddressBookTest {
@@ -19,6 +24,8 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_MEMBERS_FILE = TEST_DATA_FOLDER.resolve("typicalMembersAddressBook.json");
     private static final Path INVALID_MEMBER_FILE = TEST_DATA_FOLDER.resolve("invalidMemberAddressBook.json");
     private static final Path DUPLICATE_MEMBER_FILE = TEST_DATA_FOLDER.resolve("duplicateMemberAddressBook.json");
+    private static final Path DUPLICATE_MEMBER_ID_FILE =
+            TEST_DATA_FOLDER.resolve("duplicateMemberIdAddressBook.json");
 
     @Test
     public void toModelType_typicalMembersFile_success() throws Exception {
@@ -44,4 +51,95 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_duplicateMemberIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_MEMBER_ID_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_MEMBER_ID,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_fromAddressBook_keepsMemberIds() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addMember(TypicalMembers.ALICE, 1);
+        original.addMember(TypicalMembers.BENSON, 0);
+        AddressBook addressBook = new JsonSerializableAddressBook(original).toModelType();
+        assertEquals(1, addressBook.getMemberId(TypicalMembers.ALICE));
+        assertEquals(0, addressBook.getMemberId(TypicalMembers.BENSON));
+    }
+
+    @Test
+    public void toModelType_memberIdsOutOfRange_membersNumberedInOrder() throws Exception {
+        JsonSerializableAddressBook largeId = new JsonSerializableAddressBook(null,
+                List.of(new JsonAdaptedMember(TypicalMembers.ALICE, Integer.MAX_VALUE)), Collections.emptyList());
+        assertEquals(0, largeId.toModelType().getMemberId(TypicalMembers.ALICE));
+
+        JsonSerializableAddressBook sparseIds = new JsonSerializableAddressBook(null,
+                List.of(new JsonAdaptedMember(TypicalMembers.BOB, 5), new JsonAdaptedMember(TypicalMembers.ALICE, 0)),
+                Collections.emptyList());
+        AddressBook addressBook = sparseIds.toModelType();
+        assertEquals(0, addressBook.getMemberId(TypicalMembers.BOB));
+        assertEquals(1, addressBook.getMemberId(TypicalMembers.ALICE));
+    }
+
+    @Test
+    public void toModelType_memberIdsWithGapsInRange_idsKept() throws Exception {
+        JsonSerializableAddressBook gapInIds = new JsonSerializableAddressBook(null,
+                List.of(new JsonAdaptedMember(TypicalMembers.BOB, 3), new JsonAdaptedMember(TypicalMembers.ALICE, 0)),
+                Collections.emptyList());
+        AddressBook addressBook = gapInIds.toModelType();
+        assertEquals(3, addressBook.getMemberId(TypicalMembers.BOB));
+        assertEquals(0, addressBook.getMemberId(TypicalMembers.ALICE));
+    }
+
+    @Test
+    public void toModelType_manyMembers_sameAsSequentialOrder() throws Exception {
+        List<JsonAdaptedMember> members = manyMembers();
+        AddressBook addressBook = new JsonSerializableAddressBook(null, members, Collections.emptyList())
+                .toModelType();
+        assertEquals(members.size(), addressBook.getMemberList().size());
+        for (int i = 0; i < members.size(); i++) {
+            assertEquals("Member " + i, addressBook.getMemberList().get(i).getName().fullName);
+        }
+    }
+
+    @Test
+    public void toModelType_manyInvalidMembers_firstErrorInFileReported() {
+        List<JsonAdaptedMember> members = manyMembers();
+        int last = members.size() - 1;
+        members.set(last, newMember("Invalid@Name", "12345678"));
+        members.set(last / 2, newMember("Member " + (last / 2), "1"));
+        members.set(last / 3, newMember("Member 1", "12345678"));
+        for (int i = 0; i < 10; i++) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_MEMBER, ()
+                -> new JsonSerializableAddressBook(null, members, Collections.emptyList()).toModelType());
+        }
+
+        members.set(last / 3, newMember("Member " + (last / 3), "12345678"));
+        for (int i = 0; i < 10; i++) {
+            assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, ()
+                -> new JsonSerializableAddressBook(null, members, Collections.emptyList()).toModelType());
+        }
+
+        members.set(last / 2, newMember("Member " + (last / 2), "12345678"));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, ()
+            -> new JsonSerializableAddressBook(null, members, Collections.emptyList()).toModelType());
+    }
+
+    /**
+     * Returns enough valid members to be converted in parallel.
+     */
+    private static List<JsonAdaptedMember> manyMembers() {
+        List<JsonAdaptedMember> members = new ArrayList<>();
+        for (int i = 0; i < ParallelConverter.SEQUENTIAL_THRESHOLD * 8; i++) {
+            members.add(newMember("Member " + i, "12345678"));
+        }
+        return members;
+    }
+
+    private static JsonAdaptedMember newMember(String name, String phone) {
+        return new JsonAdaptedMember(name, phone, null, null, null, null);
+    }
+
 }
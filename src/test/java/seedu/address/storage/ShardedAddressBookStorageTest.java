@@ -0,0 +1,196 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.BADMINTON;
+import static seedu.address.testutil.TypicalEvents.getTypicalAddressBookWithEvents;
+import static seedu.address.testutil.TypicalMembers.BENSON;
+import static seedu.address.testutil.TypicalMembers.DANIEL;
+import static seedu.address.testutil.TypicalMembers.HOON;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.AtomicFileWriter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.module.member.Member;
+import seedu.address.testutil.MemberBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFiles_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAndRead_allInOrder() throws Exception {
+        for (int shardCount : new int[] {1, 3, 32}) {
+            Path filePath = testFolder.resolve(shardCount + "addressbook.json");
+            AddressBook original = getTypicalAddressBookWithEvents();
+            original.addEvent(BADMINTON);
+            new ShardedAddressBookStorage(filePath, shardCount).saveAddressBook(original);
+
+            assertFalse(Files.exists(filePath));
+            assertSameData(original, new ShardedAddressBookStorage(filePath, shardCount).readAddressBook().get());
+        }
+    }
+
+    @Test
+    public void save_oneMemberEdited_onlyItsShardRewritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 4);
+        AddressBook addressBook = getTypicalAddressBookWithEvents();
+        storage.saveAddressBook(addressBook);
+        Map<String, String> before = readShardFiles(filePath);
+
+        Member editedDaniel = new MemberBuilder(DANIEL).withPhone("99999999").build();
+        addressBook.setMember(DANIEL, editedDaniel);
+        storage.saveAddressBook(addressBook);
+        Map<String, String> after = readShardFiles(filePath);
+
+        List<String> rewritten = after.keySet().stream().filter(file -> !before.containsKey(file))
+                .collect(Collectors.toList());
+        assertEquals(Collections.singletonList(String.format("members-%02d-2.json",
+                addressBook.getMemberId(editedDaniel) % 4)), rewritten);
+        assertEquals(before.size(), after.size());
+        assertSameData(addressBook, new ShardedAddressBookStorage(filePath, 4).readAddressBook().get());
+    }
+
+    @Test
+    public void save_noChanges_nothingWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 4);
+        AddressBook addressBook = getTypicalAddressBookWithEvents();
+        storage.saveAddressBook(addressBook);
+        Map<String, String> before = readShardFiles(filePath);
+
+        storage.saveAddressBook(addressBook);
+        assertEquals(before, readShardFiles(filePath));
+
+        // reading back does not force a rewrite either
+        ShardedAddressBookStorage reopened = new ShardedAddressBookStorage(filePath, 4);
+        reopened.readAddressBook();
+        reopened.saveAddressBook(addressBook);
+        assertEquals(before, readShardFiles(filePath));
+    }
+
+    @Test
+    public void save_reorderedAndRemoved_readBackInOrder() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 2);
+        AddressBook addressBook = getTypicalAddressBookWithEvents();
+        storage.saveAddressBook(addressBook);
+
+        List<Member> reversed = new ArrayList<>(addressBook.getMemberList());
+        Collections.reverse(reversed);
+        addressBook.setMembers(reversed);
+        addressBook.removeMember(BENSON);
+        addressBook.addMember(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertSameData(addressBook, new ShardedAddressBookStorage(filePath, 2).readAddressBook().get());
+    }
+
+    @Test
+    public void read_incompleteSave_lastCompleteSaveRead() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path directory = ShardedAddressBookStorage.getShardDirectory(filePath);
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 4);
+        AddressBook addressBook = getTypicalAddressBookWithEvents();
+        storage.saveAddressBook(addressBook);
+
+        // shards of a save that stopped before its manifest was written
+        Files.write(directory.resolve("members-00-2.json"), "[{\"name\":".getBytes());
+        Files.write(directory.resolve("events-01-2.json.tmp"), "[".getBytes());
+
+        ShardedAddressBookStorage reopened = new ShardedAddressBookStorage(filePath, 4);
+        AddressBook readBack = new AddressBook(reopened.readAddressBook().get());
+        assertSameData(addressBook, readBack);
+
+        readBack.addMember(HOON);
+        reopened.saveAddressBook(readBack);
+        assertSameData(readBack, new ShardedAddressBookStorage(filePath, 4).readAddressBook().get());
+        assertFalse(Files.exists(directory.resolve("events-01-2.json.tmp")));
+    }
+
+    @Test
+    public void read_shardsNotMatchingManifest_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path directory = ShardedAddressBookStorage.getShardDirectory(filePath);
+        new ShardedAddressBookStorage(filePath, 1).saveAddressBook(getTypicalAddressBookWithEvents());
+
+        Files.write(directory.resolve("members-00-1.json"), "[]".getBytes());
+        assertThrows(DataConversionException.class, () -> new ShardedAddressBookStorage(filePath, 1)
+                .readAddressBook());
+    }
+
+    @Test
+    public void save_fileWriterWithBackups_manifestNotBackedUp() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AtomicFileWriter fileWriter = new AtomicFileWriter(AtomicFileWriter.SyncPolicy.NONE, 2);
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, fileWriter);
+        AddressBook addressBook = getTypicalAddressBookWithEvents();
+        storage.saveAddressBook(addressBook);
+        addressBook.addMember(HOON);
+        storage.saveAddressBook(addressBook);
+
+        Path manifestPath = ShardedAddressBookStorage.getShardDirectory(filePath)
+                .resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        assertTrue(AtomicFileWriter.getExistingBackupPaths(manifestPath).isEmpty());
+        assertSameData(addressBook, new ShardedAddressBookStorage(filePath, fileWriter).readAddressBook().get());
+    }
+
+    @Test
+    public void read_jsonAddressBookFile_readAsJson() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBookWithEvents();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        assertSameData(original, storage.readAddressBook().get());
+
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(ShardedAddressBookStorage.getShardDirectory(filePath)
+                .resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME)));
+        assertSameData(original, new ShardedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    /**
+     * Returns the content of each file in the shard directory of {@code filePath}, by file name.
+     */
+    private static Map<String, String> readShardFiles(Path filePath) throws IOException {
+        Map<String, String> files = new HashMap<>();
+        try (Stream<Path> paths = Files.list(ShardedAddressBookStorage.getShardDirectory(filePath))) {
+            for (Path path : paths.collect(Collectors.toList())) {
+                files.put(path.getFileName().toString(), new String(Files.readAllBytes(path)));
+            }
+        }
+        return files;
+    }
+
+    private static void assertSameData(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected, actual);
+        for (Member member : expected.getMemberList()) {
+            assertEquals(expected.getMemberId(member), actual.getMemberId(member));
+        }
+    }
+}
@@ -2,8 +2,11 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalMembers.DANIEL;
 import static seedu.address.testutil.TypicalMembers.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +14,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.AtomicFileWriter;
+import seedu.address.commons.util.AtomicFileWriter.SyncPolicy;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
@@ -24,7 +30,8 @@ public class StorageManagerTest {
 
     @BeforeEach
     public void setUp() {
-        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab"));
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab"), false,
+                new AtomicFileWriter(SyncPolicy.NONE, 2));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
         storageManager = new StorageManager(addressBookStorage, userPrefsStorage);
     }
@@ -60,6 +67,26 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void readAddressBook_corruptFile_newestValidBackupRead() throws Exception {
+        AddressBook older = getTypicalAddressBook();
+        AddressBook newer = getTypicalAddressBook();
+        newer.removeMember(DANIEL);
+        storageManager.saveAddressBook(older);
+        storageManager.saveAddressBook(newer);
+        storageManager.saveAddressBook(new AddressBook());
+
+        Path filePath = storageManager.getAddressBookFilePath();
+        Files.write(filePath, "{\"members\": [".getBytes());
+        assertEquals(newer, new AddressBook(storageManager.readAddressBook().get()));
+
+        Files.write(AtomicFileWriter.getBackupPath(filePath, 1), "not json".getBytes());
+        assertEquals(older, new AddressBook(storageManager.readAddressBook().get()));
+
+        Files.write(AtomicFileWriter.getBackupPath(filePath, 2), "not json".getBytes());
+        assertThrows(DataConversionException.class, () -> storageManager.readAddressBook());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());